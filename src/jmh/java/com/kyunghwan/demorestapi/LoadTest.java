@@ -0,0 +1,304 @@
+package com.kyunghwan.demorestapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kyunghwan.demorestapi.accounts.Account;
+import com.kyunghwan.demorestapi.accounts.AccountRole;
+import com.kyunghwan.demorestapi.accounts.AccountService;
+import com.kyunghwan.demorestapi.common.AppProperties;
+import com.kyunghwan.demorestapi.events.Event;
+import com.kyunghwan.demorestapi.events.EventRepository;
+import com.kyunghwan.demorestapi.events.EventStatus;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// H2 로 DemoApplication 을 띄우고 익명/인증 클라이언트가 읽기/쓰기를 섞어 호출하는 부하 테스트
+// 엔드포인트별 p50, p99, p999 지연 시간과 초당 요청 수를 JSON 으로 저장
+// 설정 (system property)
+//  load.accounts  인증 클라이언트 계정 수 (10)
+//  load.events    미리 저장할 이벤트 수 (1000)
+//  load.clients   동시 클라이언트 수 (16)
+//  load.warmup    워밍업 시간, 초 (10)
+//  load.duration  측정 시간, 초 (30)
+//  load.mode      이벤트 조회 실행 방식, my-app.event-read-mode (sync | async)
+//  load.tomcat-threads  Tomcat 요청 스레드 수, server.tomcat.max-threads (200)
+//  load.result    결과 파일 (target/load-test-result.json)
+public class LoadTest {
+
+    private static final String PASSWORD = "load-test";
+
+    private static final String EVENT_JSON = "{\"name\":\"Load test\",\"description\":\"Load test event\","
+            + "\"beginEnrollmentDateTime\":\"2019-09-18T13:00:00\",\"closeEnrollmentDateTime\":\"2019-09-19T13:00:00\","
+            + "\"beginEventDateTime\":\"2019-09-20T13:00:00\",\"endEventDateTime\":\"2019-09-21T13:00:00\","
+            + "\"location\":\"강남역\",\"basePrice\":100,\"maxPrice\":200,\"limitOfEnrollment\":100}";
+
+    private final int accounts = Integer.getInteger("load.accounts", 10);
+    private final int events = Integer.getInteger("load.events", 1000);
+    private final int clients = Integer.getInteger("load.clients", 16);
+    private final int warmupSeconds = Integer.getInteger("load.warmup", 10);
+    private final int durationSeconds = Integer.getInteger("load.duration", 30);
+    private final String mode = System.getProperty("load.mode", "sync");
+    private final int tomcatThreads = Integer.getInteger("load.tomcat-threads", 200);
+    private final Path result = Paths.get(System.getProperty("load.result", "target/load-test-result.json"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private String baseUrl;
+
+    private AppProperties appProperties;
+
+    private List<String> usernames = new ArrayList<>();
+
+    private List<String> accessTokens = new ArrayList<>();
+
+    private List<Integer> eventIds = new ArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest().run();
+    }
+
+    private void run() throws Exception {
+        ConfigurableApplicationContext context = SpringApplication.run(DemoApplication.class,
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--server.tomcat.max-threads=" + tomcatThreads,
+                "--my-app.event-read-mode=" + mode,
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.org.springframework.security=WARN");
+        try {
+            baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            appProperties = context.getBean(AppProperties.class);
+            seed(context);
+            for (String username : usernames) {
+                accessTokens.add(issueToken(username));
+            }
+
+            drive(warmupSeconds);
+            long started = System.nanoTime();
+            List<Map<String, List<Long>>> samples = drive(durationSeconds);
+            double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            write(samples, elapsedSeconds);
+        } finally {
+            context.close();
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        AccountService accountService = context.getBean(AccountService.class);
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+
+        List<Account> managers = new ArrayList<>();
+        for (int i = 0; i < accounts; i++) {
+            Account account = Account.builder()
+                    .email("load-" + i + "@email.com")
+                    .password(PASSWORD)
+                    .roles(Set.of(AccountRole.USER))
+                    .build();
+            usernames.add(account.getEmail());
+            managers.add(accountService.saveAccount(account));
+        }
+
+        List<Event> seeded = new ArrayList<>();
+        for (int i = 0; i < events; i++) {
+            seeded.add(Event.builder()
+                    .name("event " + i)
+                    .description("seeded for load test")
+                    .beginEnrollmentDateTime(LocalDateTime.of(2019, 9, 18, 13, 0))
+                    .closeEnrollmentDateTime(LocalDateTime.of(2019, 9, 19, 13, 0))
+                    .beginEventDateTime(LocalDateTime.of(2019, 9, 20, 13, 0))
+                    .endEventDateTime(LocalDateTime.of(2019, 9, 21, 13, 0))
+                    .location("강남역")
+                    .basePrice(100)
+                    .maxPrice(200)
+                    .limitOfEnrollment(100)
+                    .offline(true)
+                    .eventStatus(EventStatus.DRAFT)
+                    .manager(managers.get(i % managers.size()))
+                    .build());
+        }
+        eventRepository.saveAll(seeded).forEach(e -> eventIds.add(e.getId()));
+    }
+
+    // 클라이언트마다 스레드 하나, 응답을 받으면 바로 다음 요청 (closed loop)
+    private List<Map<String, List<Long>>> drive(int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<Map<String, List<Long>>>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> client(deadline)));
+            }
+            List<Map<String, List<Long>>> samples = new ArrayList<>();
+            for (Future<Map<String, List<Long>>> future : futures) {
+                samples.add(future.get());
+            }
+            return samples;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, List<Long>> client(long deadline) {
+        Map<String, List<Long>> samples = new LinkedHashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            int dice = random.nextInt(100);
+            String accessToken = accessTokens.get(random.nextInt(accessTokens.size()));
+            String operation;
+            HttpRequest request;
+            if (dice < 40) {
+                operation = "GET /api/events";
+                request = get("/api/events?page=" + random.nextInt(10) + "&size=20", null);
+            } else if (dice < 70) {
+                operation = "GET /api/events/{id}";
+                request = get("/api/events/" + eventIds.get(random.nextInt(eventIds.size())), null);
+            } else if (dice < 85) {
+                operation = "GET /api/events (authenticated)";
+                request = get("/api/events?page=" + random.nextInt(10) + "&size=20", accessToken);
+            } else if (dice < 95) {
+                operation = "POST /api/events";
+                request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/events"))
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .header("Accept", "application/hal+json")
+                        .POST(HttpRequest.BodyPublishers.ofString(EVENT_JSON))
+                        .build();
+            } else {
+                operation = "POST /oauth/token";
+                request = tokenRequest(usernames.get(random.nextInt(usernames.size())));
+            }
+
+            long started = System.nanoTime();
+            boolean success;
+            try {
+                int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                success = status < 400;
+            } catch (Exception e) {
+                success = false;
+            }
+            long elapsed = System.nanoTime() - started;
+            // 실패한 요청은 음수로 기록
+            samples.computeIfAbsent(operation, k -> new ArrayList<>()).add(success ? elapsed : -elapsed);
+        }
+        return samples;
+    }
+
+    private HttpRequest get(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/hal+json");
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder.GET().build();
+    }
+
+    private HttpRequest tokenRequest(String username) {
+        String credentials = appProperties.getClientId() + ":" + appProperties.getClientSecret();
+        String form = "grant_type=password"
+                + "&username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/oauth/token"))
+                .header("Authorization", "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+    }
+
+    private String issueToken(String username) throws Exception {
+        HttpResponse<String> response = httpClient.send(tokenRequest(username), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Cannot issue access token for " + username + ": " + response.body());
+        }
+        JsonNode token = objectMapper.readTree(response.body());
+        return token.get("access_token").asText();
+    }
+
+    private void write(List<Map<String, List<Long>>> samples, double elapsedSeconds) throws Exception {
+        Map<String, List<Long>> byOperation = new LinkedHashMap<>();
+        List<Long> all = new ArrayList<>();
+        for (Map<String, List<Long>> clientSamples : samples) {
+            clientSamples.forEach((operation, latencies) -> {
+                byOperation.computeIfAbsent(operation, k -> new ArrayList<>()).addAll(latencies);
+                all.addAll(latencies);
+            });
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("all", summary(all, elapsedSeconds));
+        byOperation.forEach((operation, latencies) -> results.put(operation, summary(latencies, elapsedSeconds)));
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("accounts", accounts);
+        config.put("events", events);
+        config.put("clients", clients);
+        config.put("warmupSeconds", warmupSeconds);
+        config.put("durationSeconds", durationSeconds);
+        config.put("mode", mode);
+        config.put("tomcatThreads", tomcatThreads);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("results", results);
+
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        objectMapper.writeValue(result.toFile(), report);
+        System.out.println(objectMapper.writeValueAsString(report));
+    }
+
+    private Map<String, Object> summary(List<Long> samples, double elapsedSeconds) {
+        long[] latencies = samples.stream().mapToLong(Math::abs).sorted().toArray();
+        long errors = samples.stream().filter(l -> l < 0).count();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", latencies.length);
+        summary.put("errors", errors);
+        summary.put("rps", latencies.length / elapsedSeconds);
+        summary.put("p50Ms", percentile(latencies, 0.50));
+        summary.put("p99Ms", percentile(latencies, 0.99));
+        summary.put("p999Ms", percentile(latencies, 0.999));
+        summary.put("maxMs", latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1_000_000.0);
+        return summary;
+    }
+
+    private double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.kyunghwan.demorestapi.configs;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// 비밀번호 검증(matches) 처리량, 단일 스레드이므로 ops/s 가 코어당 초당 로그인 수
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Threads(1)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    // 알고리즘:비용 (my-app.password-algorithm, my-app.password-strength), 비용은 bcrypt 만 해당
+    @Param({"bcrypt:4", "bcrypt:8", "bcrypt:10", "bcrypt:12", "pbkdf2"})
+    private String setting;
+
+    private PasswordEncoder passwordEncoder;
+
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        String[] parts = setting.split(":");
+        passwordEncoder = new AdaptivePasswordEncoder(parts[0], parts.length > 1 ? Integer.parseInt(parts[1]) : 10);
+        encoded = passwordEncoder.encode("password");
+    }
+
+    @Benchmark
+    public boolean login() {
+        return passwordEncoder.matches("password", encoded);
+    }
+
+}
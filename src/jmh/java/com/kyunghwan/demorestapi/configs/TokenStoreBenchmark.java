@@ -0,0 +1,96 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.kyunghwan.demorestapi.accounts.Account;
+import com.kyunghwan.demorestapi.accounts.AccountAdapter;
+import com.kyunghwan.demorestapi.accounts.AccountRole;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 리소스 서버가 요청마다 수행하는 토큰 조회(readAccessToken + readAuthentication) 지연 시간 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenStoreBenchmark {
+
+    @Param({"in-memory", "jdbc"})
+    private String store;
+
+    @Param({"10000"})
+    private int tokens;
+
+    private TokenStore tokenStore;
+
+    private HikariDataSource dataSource;
+
+    private String[] values;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        if ("jdbc".equals(store)) {
+            dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+            DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("schema.sql")), dataSource);
+            tokenStore = new ExpiringJdbcTokenStore(dataSource, 500);
+        } else {
+            tokenStore = new InMemoryTokenStore();
+        }
+
+        values = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(UUID.randomUUID().toString());
+            token.setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)));
+            tokenStore.storeAccessToken(token, authentication(i));
+            values[i] = token.getValue();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Benchmark
+    public OAuth2Authentication readAuthentication() {
+        String value = values[next++ % tokens];
+        OAuth2AccessToken token = tokenStore.readAccessToken(value);
+        return tokenStore.readAuthentication(token);
+    }
+
+    private OAuth2Authentication authentication(int index) {
+        Account account = Account.builder()
+                .id(index)
+                .email("user" + index + "@email.com")
+                .password("password")
+                .roles(Set.of(AccountRole.USER))
+                .build();
+        AccountAdapter principal = new AccountAdapter(account);
+        OAuth2Request request = new OAuth2Request(Map.of(), "myApp", principal.getAuthorities(), true,
+                Set.of("read", "write"), Set.of(), null, Set.of(), Map.of());
+        return new OAuth2Authentication(request,
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.accounts.Account;
+
+import java.time.LocalDateTime;
+
+// 벤치마크에서 저장, 직렬화할 이벤트 (유료, 오프라인, DRAFT)
+public final class EventFixtures {
+
+    private EventFixtures() {
+    }
+
+    // 저장 전 이벤트 (id, manager 없음)
+    public static Event event() {
+        Event event = Event.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2019, 9, 18, 13, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2019, 9, 19, 13, 0))
+                .beginEventDateTime(LocalDateTime.of(2019, 9, 20, 13, 0))
+                .endEventDateTime(LocalDateTime.of(2019, 9, 21, 13, 0))
+                .location("강남역 D2 스타텁 팩토리")
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+        event.update();
+        return event;
+    }
+
+    public static Event event(int id) {
+        return event(id, Account.builder().id(1).build());
+    }
+
+    public static Event event(int id, Account manager) {
+        Event event = event();
+        event.setId(id);
+        event.setManager(manager);
+        return event;
+    }
+
+}
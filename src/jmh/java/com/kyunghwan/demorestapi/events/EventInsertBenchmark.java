@@ -0,0 +1,73 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.DemoApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 시퀀스 할당 크기별 이벤트 insert 처리량 (H2)
+// allocationSize=1 은 변경 전(@GeneratedValue, insert 마다 nextval)과 같은 동작
+// single: POST /api/events 처럼 save 한 건씩, bulk: POST /api/events/bulk 처럼 saveAll
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class EventInsertBenchmark {
+
+    @Param({"1", "50"})
+    private int allocationSize;
+
+    @Param({"100"})
+    private int bulkSize;
+
+    private ConfigurableApplicationContext context;
+
+    private EventRepository eventRepository;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(DemoApplication.class,
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--my-app.id-allocation-size=" + allocationSize,
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.org.springframework.security=WARN");
+        eventRepository = context.getBean(EventRepository.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteEvents() {
+        eventRepository.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // ops/s = 초당 insert 건수
+    @Benchmark
+    public Event single() {
+        return eventRepository.save(EventFixtures.event());
+    }
+
+    // ops/s * bulkSize = 초당 insert 건수
+    @Benchmark
+    public List<Event> bulk() {
+        List<Event> events = new ArrayList<>(bulkSize);
+        for (int i = 0; i < bulkSize; i++) {
+            events.add(EventFixtures.event());
+        }
+        return eventRepository.saveAll(events);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.configs.AppConfig;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 이벤트 생성/수정 시 EventDto -> Event 변환 비용, AppConfig 의 ModelMapper 와 EventMapper 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventMapperBenchmark {
+
+    private ModelMapper modelMapper;
+
+    private EventMapper eventMapper;
+
+    private EventDto eventDto;
+
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new AppConfig().modelMapper();
+        eventMapper = new EventMapper();
+        eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2019, 9, 18, 13, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2019, 9, 19, 13, 0))
+                .beginEventDateTime(LocalDateTime.of(2019, 9, 20, 13, 0))
+                .endEventDateTime(LocalDateTime.of(2019, 9, 21, 13, 0))
+                .location("강남역 D2 스타텁 팩토리")
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+        event = new Event();
+    }
+
+    @Benchmark
+    public Event modelMapperCreate() {
+        return modelMapper.map(eventDto, Event.class);
+    }
+
+    @Benchmark
+    public Event eventMapperCreate() {
+        return eventMapper.toEvent(eventDto);
+    }
+
+    @Benchmark
+    public Event modelMapperUpdate() {
+        modelMapper.map(eventDto, event);
+        return event;
+    }
+
+    @Benchmark
+    public Event eventMapperUpdate() {
+        eventMapper.update(eventDto, event);
+        return event;
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kyunghwan.demorestapi.configs.PooledHalHttpMessageConverter;
+import com.kyunghwan.demorestapi.configs.SerializationBufferPool;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// HAL 이벤트 페이지를 응답 스트림에 쓰는 비용, 페이지 크기별 (op = 요청 한 번)
+// streaming: 응답 스트림에 바로 직렬화 (Content-Length 없음, 기존 HAL 컨버터)
+// fresh: 요청마다 새 버퍼에 직렬화 후 한 번에 쓰기 (writeValueAsBytes)
+// pooled: PooledHalHttpMessageConverter, 풀의 버퍼에 직렬화 후 한 번에 쓰기
+// gzip 은 server.compression 과 같이 응답마다 GZIPOutputStream 으로 압축, 전송 바이트 수는 setUp 에서 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventPageWireBenchmark {
+
+    @Param({"20", "100", "500"})
+    private int pageSize;
+
+    @Param({"streaming", "fresh", "pooled"})
+    private String buffer;
+
+    @Param({"identity", "gzip"})
+    private String encoding;
+
+    private PagedResources<Resource<Event>> page;
+
+    private ObjectMapper halObjectMapper;
+
+    private MappingJackson2HttpMessageConverter halConverter;
+
+    private PooledHalHttpMessageConverter pooledConverter;
+
+    private CountingOutputStream wire;
+
+    @Setup
+    public void setUp() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        EventLinks eventLinks = EventLinks.current();
+        List<Resource<Event>> content = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            content.add(new EventResource(EventFixtures.event(i), eventLinks));
+        }
+        page = new PagedResources<>(content, new EventPageMetadata(new PagedResources.PageMetadata(pageSize, 0, pageSize * 5L), true),
+                eventLinks.queryEvents().withSelfRel(),
+                new Link(eventLinks.toUriComponentsBuilder().queryParam("page", 1).toUriString(), Link.REL_NEXT),
+                eventLinks.profile("resource-events-list"));
+
+        // Spring HATEOAS 가 구성하는 HAL 컨버터와 같은 설정
+        halObjectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new Jackson2HalModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        halObjectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultRelProvider(), null, new MessageSourceAccessor(new StaticMessageSource())));
+        halConverter = new TypeConstrainedMappingJackson2HttpMessageConverter(ResourceSupport.class);
+        halConverter.setObjectMapper(halObjectMapper);
+        halConverter.setSupportedMediaTypes(List.of(MediaTypes.HAL_JSON_UTF8));
+        pooledConverter = new PooledHalHttpMessageConverter(halConverter, new SerializationBufferPool(4, 8192, 1024 * 1024));
+
+        wire = new CountingOutputStream();
+        writePage();
+        System.out.println("pageSize=" + pageSize + " " + encoding + " bytes on wire: " + wire.count);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public long writePage() throws IOException {
+        wire.count = 0;
+        OutputStream body = encoding.equals("gzip") ? new GZIPOutputStream(wire) : wire;
+        OutputMessage outputMessage = new OutputMessage(body);
+        switch (buffer) {
+            case "streaming":
+                halConverter.write(page, MediaTypes.HAL_JSON_UTF8, outputMessage);
+                break;
+            case "fresh":
+                outputMessage.getHeaders().setContentType(MediaTypes.HAL_JSON_UTF8);
+                byte[] bytes = halObjectMapper.writeValueAsBytes(page);
+                outputMessage.getHeaders().setContentLength(bytes.length);
+                body.write(bytes);
+                break;
+            default:
+                pooledConverter.write(page, MediaTypes.HAL_JSON_UTF8, outputMessage);
+        }
+        if (body instanceof GZIPOutputStream) {
+            ((GZIPOutputStream) body).finish();
+        }
+        return wire.count;
+    }
+
+    // 소켓처럼 쓰기만 하고 바이트 수를 센다
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+    }
+
+    private static class OutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private final OutputStream body;
+
+        OutputMessage(OutputStream body) {
+            this.body = body;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/events 한 페이지의 표현별 직렬화 시간과 응답 크기
+// hal: 이벤트마다 self 링크, json/smile: 링크 없는 CompactEvents, *-fields: fields=id,name,beginEventDateTime
+// 응답 크기는 setUp 에서 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventRepresentationBenchmark {
+
+    @Param({"hal", "json", "smile", "json-fields", "smile-fields"})
+    private String representation;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+
+    private Object body;
+
+    @Setup
+    public void setUp() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        List<Event> events = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            events.add(EventFixtures.event(i));
+        }
+        PagedResources.PageMetadata metadata = new PagedResources.PageMetadata(pageSize, 0, pageSize * 5L);
+
+        switch (representation) {
+            case "hal":
+                EventLinks eventLinks = EventLinks.current();
+                List<Resource<Event>> content = new ArrayList<>(pageSize);
+                events.forEach(event -> content.add(new EventResource(event, eventLinks)));
+                body = new PagedResources<>(content, new EventPageMetadata(metadata, true),
+                        eventLinks.queryEvents().withSelfRel(),
+                        new Link(eventLinks.toUriComponentsBuilder().queryParam("page", 1).toUriString(), Link.REL_NEXT),
+                        eventLinks.profile("resource-events-list"));
+                ObjectMapper halMapper = objectMapper(new JsonFactory()).registerModule(new Jackson2HalModule());
+                halMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                        new DefaultRelProvider(), null, new MessageSourceAccessor(new StaticMessageSource())));
+                writer = halMapper.writer();
+                break;
+            case "json":
+            case "smile":
+                body = new CompactEvents(events, new EventPageMetadata(metadata, true));
+                writer = writer(representation);
+                break;
+            default:
+                List<Map<String, Object>> rows = new ArrayList<>(pageSize);
+                for (Event event : events) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("id", event.getId());
+                    row.put("name", event.getName());
+                    row.put("beginEventDateTime", event.getBeginEventDateTime());
+                    rows.add(row);
+                }
+                body = new CompactEvents(rows, new EventPageMetadata(metadata, true));
+                writer = writer(representation);
+        }
+
+        System.out.println(representation + " payload bytes: " + writer.writeValueAsBytes(body).length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return writer.writeValueAsBytes(body);
+    }
+
+    private ObjectWriter writer(String representation) {
+        return objectMapper(representation.startsWith("smile") ? new SmileFactory() : new JsonFactory()).writer();
+    }
+
+    // Spring Boot 가 구성하는 ObjectMapper 와 같은 날짜 설정
+    private ObjectMapper objectMapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kyunghwan.demorestapi.accounts.Account;
+import com.kyunghwan.demorestapi.accounts.AccountRole;
+import com.kyunghwan.demorestapi.accounts.AccountSerializer;
+import com.kyunghwan.demorestapi.common.ErrorsResource;
+import com.kyunghwan.demorestapi.common.ErrorsSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+
+// /api/events 요청 처리 중 DB 를 제외한 구간(검증, 링크 생성, JSON 직렬화) 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventRequestBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    private EventValidator eventValidator;
+
+    private EventDto validEventDto;
+
+    private EventDto wrongEventDto;
+
+    private Event event;
+
+    private Account account;
+
+    private Errors errors;
+
+    private PagedResources<Resource<Event>> page;
+
+    private ObjectMapper objectMapper;
+
+    private ObjectWriter accountWriter;
+
+    @Setup
+    public void setUp() {
+        // ControllerLinkBuilder 가 요청 정보로 절대 경로를 만들도록 설정
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        eventValidator = new EventValidator();
+        validEventDto = eventDto(LocalDateTime.of(2019, 9, 18, 13, 0), 100, 200);
+        wrongEventDto = eventDto(LocalDateTime.of(2019, 9, 25, 13, 0), 300, 200);
+
+        account = Account.builder()
+                .id(1)
+                .email("user@email.com")
+                .password("user")
+                .roles(Set.of(AccountRole.USER))
+                .build();
+        event = EventFixtures.event(1, account);
+
+        errors = new BeanPropertyBindingResult(wrongEventDto, "eventDto");
+        eventValidator.validate(wrongEventDto, errors);
+
+        List<Resource<Event>> content = new ArrayList<>();
+        for (int i = 1; i <= pageSize; i++) {
+            content.add(new EventResource(EventFixtures.event(i, account)));
+        }
+        page = new PagedResources<>(content, new PagedResources.PageMetadata(pageSize, 0, pageSize * 5L),
+                linkTo(EventController.class).withSelfRel(),
+                linkTo(EventController.class).withRel("next"),
+                new Link("/docs/index.html#resources-events-list").withRel("profile"));
+
+        // Spring Boot + Spring HATEOAS 가 구성하는 HAL ObjectMapper 와 같은 설정
+        SimpleModule errorsModule = new SimpleModule();
+        errorsModule.addSerializer(Errors.class, new ErrorsSerializer());
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new Jackson2HalModule())
+                .registerModule(errorsModule)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultRelProvider(), null, new MessageSourceAccessor(new StaticMessageSource())));
+
+        // Event.manager 에 적용되는 AccountSerializer 단독
+        SimpleModule accountModule = new SimpleModule();
+        accountModule.addSerializer(Account.class, new AccountSerializer());
+        accountWriter = new ObjectMapper().registerModule(accountModule).writerFor(Account.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public Errors validate() {
+        Errors errors = new BeanPropertyBindingResult(validEventDto, "eventDto");
+        eventValidator.validate(validEventDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors validateWrongInput() {
+        Errors errors = new BeanPropertyBindingResult(wrongEventDto, "eventDto");
+        eventValidator.validate(wrongEventDto, errors);
+        return errors;
+    }
+
+    // EventController.getEvent 의 manager 응답 링크 구성
+    @Benchmark
+    public EventResource eventResource() {
+        EventLinks eventLinks = EventLinks.current();
+        EventResource eventResource = new EventResource(event, eventLinks);
+        eventResource.add(eventLinks.updateEvent(event.getId()));
+        eventResource.add(eventLinks.profile("rresources-events-get-equals-user"));
+        eventResource.add(eventLinks.queryEvents());
+        return eventResource;
+    }
+
+    // 한 페이지 이벤트의 self, update-event 링크, 링크마다 linkTo (변경 전)
+    @Benchmark
+    public List<Resource<Event>> pageLinksWithLinkTo() {
+        List<Resource<Event>> resources = new ArrayList<>(pageSize);
+        for (Resource<Event> resource : page.getContent()) {
+            Event content = resource.getContent();
+            resources.add(new Resource<>(content,
+                    linkTo(EventController.class).slash(content.getId()).withSelfRel(),
+                    linkTo(EventController.class).slash(content.getId()).withRel("update-event")));
+        }
+        return resources;
+    }
+
+    // 같은 링크를 EventLinks 로, 기본 URI 별로 캐시된 EventLinks 사용
+    @Benchmark
+    public List<Resource<Event>> pageLinks() {
+        EventLinks eventLinks = EventLinks.current();
+        List<Resource<Event>> resources = new ArrayList<>(pageSize);
+        for (Resource<Event> resource : page.getContent()) {
+            Event content = resource.getContent();
+            resources.add(new Resource<>(content, eventLinks.self(content.getId()), eventLinks.updateEvent(content.getId())));
+        }
+        return resources;
+    }
+
+    @Benchmark
+    public ErrorsResource errorsResource() {
+        return new ErrorsResource(errors);
+    }
+
+    @Benchmark
+    public byte[] serializeErrors() throws Exception {
+        return objectMapper.writeValueAsBytes(errors);
+    }
+
+    @Benchmark
+    public byte[] serializeAccount() throws Exception {
+        return accountWriter.writeValueAsBytes(account);
+    }
+
+    @Benchmark
+    public byte[] serializeEventResource() throws Exception {
+        return objectMapper.writeValueAsBytes(new EventResource(event));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private EventDto eventDto(LocalDateTime closeEnrollmentDateTime, int basePrice, int maxPrice) {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2019, 9, 18, 13, 0))
+                .closeEnrollmentDateTime(closeEnrollmentDateTime)
+                .beginEventDateTime(LocalDateTime.of(2019, 9, 20, 13, 0))
+                .endEventDateTime(LocalDateTime.of(2019, 9, 21, 13, 0))
+                .location("강남역 D2 스타텁 팩토리")
+                .basePrice(basePrice)
+                .maxPrice(maxPrice)
+                .limitOfEnrollment(100)
+                .build();
+    }
+
+}
@@ -1,16 +1,24 @@
 package com.kyunghwan.demorestapi.accounts;
 
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
+import java.io.Serializable;
 import java.util.Set;
 
 @Entity
+@EntityListeners(AccountEntityListener.class)
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @NoArgsConstructor @AllArgsConstructor
-public class Account {
+public class Account implements Serializable {
 
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(generator = "account_seq")
+    @GenericGenerator(name = "account_seq", strategy = "com.kyunghwan.demorestapi.common.PooledSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "account_seq"))
     private Integer id;
 
     @Column(unique = true)
@@ -22,4 +30,9 @@ public class Account {
     @Enumerated(EnumType.STRING)
     private Set<AccountRole> roles;
 
+    // 조회 시점의 email, email 이 바뀌면 이전 email 의 캐시도 제거 (AccountEntityListener)
+    @Transient
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.PACKAGE)
+    private transient String loadedEmail;
+
 }
@@ -0,0 +1,71 @@
+package com.kyunghwan.demorestapi.accounts;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// loadUserByUsername 계정 캐시 (email -> AccountSnapshot)
+// Account 가 저장, 삭제되면 AccountEntityListener 가 이전, 현재 email 을 커밋 후 제거
+@Component
+public class AccountCache {
+
+    public static final String CACHE_NAME = "accounts";
+
+    private final Cache cache;
+
+    // 조회 중에 변경이 있었으면 방금 저장한 이전 값을 제거하도록 세대 번호로 확인 (EventPageCache 와 같은 방식)
+    private final AtomicLong generation = new AtomicLong();
+
+    public AccountCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    public Optional<AccountSnapshot> get(String email, Function<String, Optional<Account>> loader) {
+        AccountSnapshot cached = cache.get(email, AccountSnapshot.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long startGeneration = generation.get();
+        Optional<AccountSnapshot> loaded = loader.apply(email).map(AccountSnapshot::of);
+        loaded.ifPresent(snapshot -> {
+            cache.put(email, snapshot);
+            if (generation.get() != startGeneration) {
+                cache.evict(email);
+            }
+        });
+        return loaded;
+    }
+
+    public void evict(String... emails) {
+        generation.incrementAndGet();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(emails);
+            return;
+        }
+        // 커밋 전에 제거하면 다른 요청이 이전 데이터로 다시 채울 수 있음
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                evictNow(emails);
+            }
+        });
+    }
+
+    private void evictNow(String... emails) {
+        generation.incrementAndGet();
+        Arrays.stream(emails)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(cache::evict);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.kyunghwan.demorestapi.accounts;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+// 어떤 경로로 Account 를 저장, 삭제해도 계정 캐시에서 제거 (email 을 바꾸면 이전 email 도 제거)
+// 벌크 쿼리로 변경된 계정은 캐시 TTL(ehcache.xml) 로 만료
+// 권한(roles) 만 바뀌면 컬렉션 테이블만 갱신되어 @PostUpdate 가 호출되지 않으므로 AccountService.updateRoles 에서 제거
+@Component
+@RequiredArgsConstructor
+public class AccountEntityListener {
+
+    private final ObjectProvider<AccountCache> accountCache;
+
+    @PostLoad
+    public void load(Account account) {
+        account.setLoadedEmail(account.getEmail());
+    }
+
+    @PostPersist @PostUpdate @PostRemove
+    public void evict(Account account) {
+        accountCache.getObject().evict(account.getLoadedEmail(), account.getEmail());
+        account.setLoadedEmail(account.getEmail());
+    }
+
+}
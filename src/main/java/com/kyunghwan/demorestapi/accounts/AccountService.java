@@ -2,27 +2,53 @@ package com.kyunghwan.demorestapi.accounts;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
-public class AccountService implements UserDetailsService {
+public class AccountService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AccountCache accountCache;
 
     public Account saveAccount(Account account) {
         account.setPassword(passwordEncoder.encode(account.getPassword()));
         return this.accountRepository.save(account);
     }
 
+    // 권한만 바뀌면 컬렉션 테이블만 갱신되어 Account 의 @PostUpdate 가 호출되지 않으므로 직접 캐시에서 제거 (커밋 후)
+    @Transactional
+    public Account updateRoles(String email, Set<AccountRole> roles) {
+        Account account = this.accountRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException(email));
+        account.setRoles(new HashSet<>(roles));
+        Account savedAccount = this.accountRepository.save(account);
+        this.accountCache.evict(savedAccount.getEmail());
+        return savedAccount;
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Account account = this.accountRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException(username));
-        return new AccountAdapter(account);
+        AccountSnapshot account = this.accountCache.get(username, this.accountRepository::findByEmail)
+                .orElseThrow(() -> new UsernameNotFoundException(username));
+        // 인증 후 credentials 가 지워지므로 AccountAdapter, Account 는 캐시하지 않고 매번 생성
+        return new AccountAdapter(account.toAccount());
+    }
+
+    // 로그인 성공 시 PasswordEncoder.upgradeEncoding 이 true 이면 현재 설정으로 재인코딩된 값을 저장
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Account account = this.accountRepository.findByEmail(user.getUsername()).orElseThrow(() -> new UsernameNotFoundException(user.getUsername()));
+        account.setPassword(newPassword);
+        return new AccountAdapter(this.accountRepository.save(account));
     }
 
 }
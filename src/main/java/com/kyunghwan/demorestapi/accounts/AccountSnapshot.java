@@ -0,0 +1,35 @@
+package com.kyunghwan.demorestapi.accounts;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+
+// 계정 캐시에 보관하는 변경할 수 없는 계정 정보 (id, email, 비밀번호 해시, 권한)
+// 호출자마다 새 Account 를 만들어 주므로 캐시된 값을 공유하지 않는다
+@Value
+public class AccountSnapshot implements Serializable {
+
+    Integer id;
+
+    String email;
+
+    String password;
+
+    Set<AccountRole> roles;
+
+    public static AccountSnapshot of(Account account) {
+        return new AccountSnapshot(account.getId(), account.getEmail(), account.getPassword(), Set.copyOf(account.getRoles()));
+    }
+
+    public Account toAccount() {
+        return Account.builder()
+                .id(id)
+                .email(email)
+                .password(password)
+                .roles(new HashSet<>(roles))
+                .build();
+    }
+
+}
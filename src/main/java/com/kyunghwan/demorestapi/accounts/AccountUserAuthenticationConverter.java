@@ -0,0 +1,48 @@
+package com.kyunghwan.demorestapi.accounts;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.provider.token.DefaultUserAuthenticationConverter;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class AccountUserAuthenticationConverter extends DefaultUserAuthenticationConverter {
+
+    public static final String ACCOUNT_ID = "account_id";
+
+    public static final String ROLES = "roles";
+
+    @Override
+    public Map<String, ?> convertUserAuthentication(Authentication authentication) {
+        Map<String, Object> response = new LinkedHashMap<>(super.convertUserAuthentication(authentication));
+        if (authentication.getPrincipal() instanceof AccountAdapter) {
+            Account account = ((AccountAdapter) authentication.getPrincipal()).getAccount();
+            response.put(ACCOUNT_ID, account.getId());
+            response.put(ROLES, account.getRoles().stream().map(AccountRole::name).collect(Collectors.toList()));
+        }
+        return response;
+    }
+
+    // 토큰의 클레임만으로 AccountAdapter 를 복원 (DB 조회 없음)
+    @Override
+    public Authentication extractAuthentication(Map<String, ?> map) {
+        if (!map.containsKey(ACCOUNT_ID) || !map.containsKey(ROLES)) {
+            return super.extractAuthentication(map);
+        }
+
+        Account account = Account.builder()
+                .id(((Number) map.get(ACCOUNT_ID)).intValue())
+                .email((String) map.get(USERNAME))
+                .password("")
+                .roles(((Collection<?>) map.get(ROLES)).stream()
+                        .map(r -> AccountRole.valueOf(r.toString()))
+                        .collect(Collectors.toSet()))
+                .build();
+        AccountAdapter principal = new AccountAdapter(account);
+        return new UsernamePasswordAuthenticationToken(principal, "N/A", principal.getAuthorities());
+    }
+
+}
@@ -6,6 +6,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import javax.validation.constraints.NotEmpty;
+import java.util.HashMap;
+import java.util.Map;
 
 @Component
 @ConfigurationProperties(prefix = "my-app")
@@ -30,4 +32,60 @@ public class AppProperties {
     @NotEmpty
     private String clientSecret;
 
+    private long eventCountRefreshInterval = 60000;
+
+    private long tokenPurgeInterval = 300000;
+
+    private int tokenPurgeBatchSize = 500;
+
+    // 새로 인코딩할 때 사용할 알고리즘 id (bcrypt, pbkdf2, scrypt ...)
+    private String passwordAlgorithm = "bcrypt";
+
+    // bcrypt 비용 (log rounds, 4 ~ 31)
+    private int passwordStrength = 10;
+
+    // 비밀번호 해시 계산 전용 스레드 수, 대기 큐 크기
+    // 결과를 기다리는 요청 스레드는 최대 pool-size + queue-capacity 개, 큐가 가득 차면 바로 503
+    private int passwordEncoderPoolSize = Runtime.getRuntime().availableProcessors();
+
+    private int passwordEncoderQueueCapacity = Runtime.getRuntime().availableProcessors() * 2;
+
+    // 요청 스레드가 해시 계산(큐 대기 포함)을 기다리는 최대 시간 (ms), 넘으면 503
+    private long passwordEncoderTimeout = 5000;
+
+    // Event, Account 시퀀스 할당 크기 (schema.sql 의 increment by 와 같은 값)
+    private int idAllocationSize = 50;
+
+    // 일괄 생성(POST /api/events/bulk) 한 요청의 최대 이벤트 수
+    private int eventBulkMaxSize = 100;
+
+    // export 시 DB 커서가 한 번에 가져오는 행 수
+    private int eventExportFetchSize = 500;
+
+    private TokenMode tokenMode = TokenMode.JDBC;
+
+    // 이벤트 전문 검색(q=) 방식
+    private EventSearchMode eventSearchMode = EventSearchMode.POSTGRESQL;
+
+    // 이벤트 조회(GET /api/events, /api/events/{id}) 실행 방식, 전용 스레드 수, 대기 큐 크기
+    private EventReadMode eventReadMode = EventReadMode.SYNC;
+
+    // 조회 스레드마다 DB 커넥션을 하나씩 사용하므로 커넥션 풀보다 크면 스레드가 커넥션을 기다린다
+    // 설정하지 않으면 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size, 기본 10)
+    private Integer eventReadPoolSize;
+
+    private int eventReadQueueCapacity = 1000;
+
+    // HAL 응답 직렬화 버퍼 풀 크기, 처음 버퍼 크기, 풀에 반환할 최대 버퍼 크기 (bytes)
+    private int serializationBufferPoolSize = 64;
+
+    private int serializationBufferInitialSize = 8192;
+
+    private int serializationBufferMaxSize = 262144;
+
+    // key id -> 서명 키
+    private Map<String, String> jwtSigningKeys = new HashMap<>();
+
+    private String jwtActiveKeyId;
+
 }
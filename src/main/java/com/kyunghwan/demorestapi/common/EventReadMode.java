@@ -0,0 +1,9 @@
+package com.kyunghwan.demorestapi.common;
+
+public enum EventReadMode {
+
+    // 요청 스레드(Tomcat)에서 조회
+    SYNC,
+    // 전용 스레드 풀에서 조회, 요청 스레드는 바로 반환
+    ASYNC
+}
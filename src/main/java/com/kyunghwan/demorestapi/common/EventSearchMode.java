@@ -0,0 +1,9 @@
+package com.kyunghwan.demorestapi.common;
+
+public enum EventSearchMode {
+
+    // tsvector 컬럼 + GIN 인덱스 (PostgreSQL 12 이상)
+    POSTGRESQL,
+    // JVM 메모리의 역색인 (H2, 테스트)
+    MEMORY
+}
@@ -0,0 +1,29 @@
+package com.kyunghwan.demorestapi.common;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+// pooled 옵티마이저를 사용하는 시퀀스 생성기
+// 할당 크기(시퀀스 increment)는 애너테이션이 아닌 설정(my-app.id-allocation-size)에서 읽음
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE = "demo.id.allocation_size";
+
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        ConfigurationService configurationService = serviceRegistry.getService(ConfigurationService.class);
+        int allocationSize = ConfigurationHelper.getInt(ALLOCATION_SIZE, configurationService.getSettings(), DEFAULT_ALLOCATION_SIZE);
+        params.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        params.putIfAbsent(OPT_PARAM, "pooled");
+        super.configure(type, params, serviceRegistry);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.kyunghwan.demorestapi.common;
+
+public enum TokenMode {
+
+    // 토큰 저장소(DB) 조회
+    JDBC,
+    // 서명된 JWT 를 로컬에서 검증
+    JWT
+}
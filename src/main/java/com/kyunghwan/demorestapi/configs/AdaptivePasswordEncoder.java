@@ -0,0 +1,69 @@
+package com.kyunghwan.demorestapi.configs;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.LdapShaPasswordEncoder;
+import org.springframework.security.crypto.password.Md4PasswordEncoder;
+import org.springframework.security.crypto.password.MessageDigestPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.StandardPasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 설정된 알고리즘/비용으로 인코딩하고, 다른 알고리즘이거나 bcrypt 비용이 다른 해시는 재인코딩 대상으로 판단
+public class AdaptivePasswordEncoder extends DelegatingPasswordEncoder {
+
+    public static final String BCRYPT = "bcrypt";
+
+    private static final String BCRYPT_PREFIX = "{" + BCRYPT + "}";
+
+    private final String idForEncode;
+
+    private final int bcryptStrength;
+
+    public AdaptivePasswordEncoder(String idForEncode, int bcryptStrength) {
+        super(idForEncode, encoders(bcryptStrength));
+        this.idForEncode = idForEncode;
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Map<String, PasswordEncoder> encoders(int bcryptStrength) {
+        // PasswordEncoderFactories.createDelegatingPasswordEncoder() 와 같은 id, bcrypt 비용만 설정값 사용
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put("ldap", new LdapShaPasswordEncoder());
+        encoders.put("MD4", new Md4PasswordEncoder());
+        encoders.put("MD5", new MessageDigestPasswordEncoder("MD5"));
+        encoders.put("noop", NoOpPasswordEncoder.getInstance());
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder());
+        encoders.put("scrypt", new SCryptPasswordEncoder());
+        encoders.put("SHA-1", new MessageDigestPasswordEncoder("SHA-1"));
+        encoders.put("SHA-256", new MessageDigestPasswordEncoder("SHA-256"));
+        encoders.put("sha256", new StandardPasswordEncoder());
+        return encoders;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (super.upgradeEncoding(encodedPassword)) {
+            return true;
+        }
+        return BCRYPT.equals(idForEncode) && bcryptStrength(encodedPassword) != bcryptStrength;
+    }
+
+    // {bcrypt}$2a$10$... 의 비용(log rounds)
+    private static int bcryptStrength(String encodedPassword) {
+        String hash = encodedPassword.substring(BCRYPT_PREFIX.length());
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+}
@@ -1,21 +1,26 @@
 package com.kyunghwan.demorestapi.configs;
 
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.kyunghwan.demorestapi.accounts.Account;
 import com.kyunghwan.demorestapi.accounts.AccountRole;
 import com.kyunghwan.demorestapi.accounts.AccountService;
 import com.kyunghwan.demorestapi.common.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Set;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
     @Bean
@@ -23,9 +28,17 @@ public class AppConfig {
         return new ModelMapper();
     }
 
+    // 기본 Smile 컨버터 대신 Boot 의 Jackson 설정(날짜 형식, @JsonComponent)을 그대로 사용
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(AppProperties appProperties, MeterRegistry meterRegistry) {
+        PasswordEncoder passwordEncoder = new AdaptivePasswordEncoder(appProperties.getPasswordAlgorithm(), appProperties.getPasswordStrength());
+        return new BoundedPasswordEncoder(passwordEncoder, appProperties.getPasswordEncoderPoolSize(),
+                appProperties.getPasswordEncoderQueueCapacity(), appProperties.getPasswordEncoderTimeout(), meterRegistry);
     }
 
     @Bean
@@ -2,16 +2,25 @@ package com.kyunghwan.demorestapi.configs;
 
 import com.kyunghwan.demorestapi.accounts.AccountService;
 import com.kyunghwan.demorestapi.common.AppProperties;
+import com.kyunghwan.demorestapi.common.TokenMode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
 import org.springframework.security.oauth2.config.annotation.configurers.ClientDetailsServiceConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configuration.AuthorizationServerConfigurerAdapter;
 import org.springframework.security.oauth2.config.annotation.web.configuration.EnableAuthorizationServer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerEndpointsConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerSecurityConfigurer;
+import org.springframework.security.oauth2.provider.error.DefaultWebResponseExceptionTranslator;
+import org.springframework.security.oauth2.provider.error.WebResponseExceptionTranslator;
 import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 
 @Configuration
 @EnableAuthorizationServer
@@ -23,6 +32,7 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
     private final AccountService accountService;
     private final TokenStore tokenStore;
     private final AppProperties appProperties;
+    private final ObjectProvider<JwtAccessTokenConverter> accessTokenConverter;
 
     @Override
     public void configure(AuthorizationServerSecurityConfigurer security) throws Exception {
@@ -46,7 +56,46 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
         endpoints.authenticationManager(authenticationManager)
                 .userDetailsService(accountService)
                 .tokenStore(tokenStore)
+                .exceptionTranslator(exceptionTranslator())
         ;
+        if (appProperties.getTokenMode() == TokenMode.JWT) {
+            endpoints.accessTokenConverter(accessTokenConverter.getObject());
+        }
+    }
+
+    // 비밀번호 인코더가 바쁘면 503 + Retry-After (PasswordEncoderBusyFilter 와 같은 응답)
+    private WebResponseExceptionTranslator<OAuth2Exception> exceptionTranslator() {
+        DefaultWebResponseExceptionTranslator translator = new DefaultWebResponseExceptionTranslator();
+        return e -> {
+            PasswordEncoderBusyException busy = PasswordEncoderBusyException.find(e);
+            if (busy == null) {
+                return translator.translate(e);
+            }
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.CACHE_CONTROL, "no-store");
+            headers.set(HttpHeaders.PRAGMA, "no-cache");
+            headers.set(HttpHeaders.RETRY_AFTER, PasswordEncoderBusyException.RETRY_AFTER_SECONDS);
+            return new ResponseEntity<>(new TemporarilyUnavailableException(busy), headers, HttpStatus.SERVICE_UNAVAILABLE);
+        };
+    }
+
+    // 인코더는 OAuth 와 관계없이 사용하므로 토큰 엔드포인트 응답을 만들 때만 OAuth2Exception 으로 변환
+    private static class TemporarilyUnavailableException extends OAuth2Exception {
+
+        TemporarilyUnavailableException(PasswordEncoderBusyException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        @Override
+        public String getOAuth2ErrorCode() {
+            return PasswordEncoderBusyException.ERROR_CODE;
+        }
+
+        @Override
+        public int getHttpErrorCode() {
+            return HttpStatus.SERVICE_UNAVAILABLE.value();
+        }
+
     }
 
 }
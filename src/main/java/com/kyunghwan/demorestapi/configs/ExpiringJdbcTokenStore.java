@@ -0,0 +1,109 @@
+package com.kyunghwan.demorestapi.configs;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.support.SqlLobValue;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.DefaultAuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.store.JdbcTokenStore;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Date;
+
+public class ExpiringJdbcTokenStore extends JdbcTokenStore {
+
+    private static final String INSERT_ACCESS_TOKEN_SQL = "insert into oauth_access_token " +
+            "(token_id, token, authentication_id, user_name, client_id, authentication, refresh_token, expiration) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_REFRESH_TOKEN_SQL = "insert into oauth_refresh_token " +
+            "(token_id, token, authentication, expiration) values (?, ?, ?, ?)";
+
+    private static final String PURGE_ACCESS_TOKENS_SQL = "delete from oauth_access_token where token_id in " +
+            "(select token_id from oauth_access_token where expiration < ? limit ?)";
+
+    private static final String PURGE_REFRESH_TOKENS_SQL = "delete from oauth_refresh_token where token_id in " +
+            "(select token_id from oauth_refresh_token where expiration < ? limit ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int purgeBatchSize;
+
+    private AuthenticationKeyGenerator authenticationKeyGenerator = new DefaultAuthenticationKeyGenerator();
+
+    public ExpiringJdbcTokenStore(DataSource dataSource, int purgeBatchSize) {
+        super(dataSource);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Override
+    public void setAuthenticationKeyGenerator(AuthenticationKeyGenerator authenticationKeyGenerator) {
+        super.setAuthenticationKeyGenerator(authenticationKeyGenerator);
+        this.authenticationKeyGenerator = authenticationKeyGenerator;
+    }
+
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        String refreshToken = token.getRefreshToken() == null ? null : token.getRefreshToken().getValue();
+
+        // 기존 토큰을 조회(역직렬화)하지 않고 바로 삭제 후 저장
+        removeAccessToken(token.getValue());
+        this.jdbcTemplate.update(INSERT_ACCESS_TOKEN_SQL,
+                new Object[] {
+                        extractTokenKey(token.getValue()),
+                        new SqlLobValue(serializeAccessToken(token)),
+                        this.authenticationKeyGenerator.extractKey(authentication),
+                        authentication.isClientOnly() ? null : authentication.getName(),
+                        authentication.getOAuth2Request().getClientId(),
+                        new SqlLobValue(serializeAuthentication(authentication)),
+                        extractTokenKey(refreshToken),
+                        toTimestamp(token.getExpiration())
+                },
+                new int[] {Types.VARCHAR, Types.BLOB, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BLOB, Types.VARCHAR, Types.TIMESTAMP});
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        Date expiration = refreshToken instanceof ExpiringOAuth2RefreshToken
+                ? ((ExpiringOAuth2RefreshToken) refreshToken).getExpiration()
+                : null;
+
+        this.jdbcTemplate.update(INSERT_REFRESH_TOKEN_SQL,
+                new Object[] {
+                        extractTokenKey(refreshToken.getValue()),
+                        new SqlLobValue(serializeRefreshToken(refreshToken)),
+                        new SqlLobValue(serializeAuthentication(authentication)),
+                        toTimestamp(expiration)
+                },
+                new int[] {Types.VARCHAR, Types.BLOB, Types.BLOB, Types.TIMESTAMP});
+    }
+
+    // 만료된 토큰을 batch 단위로 삭제
+    @Scheduled(fixedDelayString = "#{@appProperties.tokenPurgeInterval}")
+    public int purgeExpiredTokens() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return purge(PURGE_ACCESS_TOKENS_SQL, now) + purge(PURGE_REFRESH_TOKENS_SQL, now);
+    }
+
+    private int purge(String sql, Timestamp now) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = this.jdbcTemplate.update(sql, now, this.purgeBatchSize);
+            total += deleted;
+        } while (deleted == this.purgeBatchSize);
+        return total;
+    }
+
+    private Timestamp toTimestamp(Date date) {
+        return date == null ? null : new Timestamp(date.getTime());
+    }
+
+}
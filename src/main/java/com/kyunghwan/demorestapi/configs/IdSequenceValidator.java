@@ -0,0 +1,38 @@
+package com.kyunghwan.demorestapi.configs;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// PooledSequenceGenerator 시퀀스의 increment 가 할당 크기(my-app.id-allocation-size)와 같은지 시작 시 확인
+// 다르면 pooled 옵티마이저가 겹치는 id 를 할당하므로 시작 실패 (PostgreSQL, H2 의 information_schema.sequences)
+@RequiredArgsConstructor
+public class IdSequenceValidator implements InitializingBean {
+
+    private static final String INCREMENT_QUERY = "select increment from information_schema.sequences where upper(sequence_name) = upper(?)";
+
+    private final DataSource dataSource;
+
+    private final int allocationSize;
+
+    private final List<String> sequenceNames;
+
+    @Override
+    public void afterPropertiesSet() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String sequenceName : sequenceNames) {
+            List<Long> increments = jdbcTemplate.queryForList(INCREMENT_QUERY, Long.class, sequenceName);
+            if (increments.isEmpty()) {
+                throw new IllegalStateException("Id sequence not found: " + sequenceName);
+            }
+            if (!increments.contains((long) allocationSize)) {
+                throw new IllegalStateException("Id sequence " + sequenceName + " increments by " + increments
+                        + " but my-app.id-allocation-size is " + allocationSize);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.kyunghwan.demorestapi.common.AppProperties;
+import com.kyunghwan.demorestapi.common.EventSearchMode;
+import com.kyunghwan.demorestapi.common.PooledSequenceGenerator;
+import com.kyunghwan.demorestapi.events.EventRepository;
+import com.kyunghwan.demorestapi.events.EventSearchIndex;
+import com.kyunghwan.demorestapi.events.InMemoryEventSearchIndex;
+import com.kyunghwan.demorestapi.events.PostgresEventSearchIndex;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+public class JpaConfig {
+
+    // 시퀀스 할당 크기, schema.sql 의 increment 와 같아야 함
+    @Bean
+    public HibernatePropertiesCustomizer idAllocationSizeCustomizer(AppProperties appProperties) {
+        return properties -> properties.put(PooledSequenceGenerator.ALLOCATION_SIZE, appProperties.getIdAllocationSize());
+    }
+
+    // Hibernate 가 스키마를 만든 뒤 시퀀스 increment 확인
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public IdSequenceValidator idSequenceValidator(AppProperties appProperties, DataSource dataSource) {
+        return new IdSequenceValidator(dataSource, appProperties.getIdAllocationSize(), List.of("event_seq", "account_seq"));
+    }
+
+    @Bean
+    public EventSearchIndex eventSearchIndex(AppProperties appProperties, EventRepository eventRepository, DataSource dataSource) {
+        if (appProperties.getEventSearchMode() == EventSearchMode.POSTGRESQL) {
+            return new PostgresEventSearchIndex(eventRepository, dataSource);
+        }
+        return new InMemoryEventSearchIndex(eventRepository);
+    }
+
+}
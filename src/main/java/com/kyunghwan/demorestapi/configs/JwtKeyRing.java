@@ -0,0 +1,78 @@
+package com.kyunghwan.demorestapi.configs;
+
+import lombok.Value;
+import org.springframework.security.jwt.crypto.sign.MacSigner;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// JWT 서명 키 (my-app.jwt-signing-keys, my-app.jwt-active-key-id)
+// 키는 시작할 때 설정에서 읽으므로 키 교체는 설정 변경 후 재시작
+// (새 키 추가 + active key 변경 -> 재시작, 이전 키는 발급된 토큰이 만료된 뒤 제거 -> 재시작)
+public class JwtKeyRing {
+
+    // HS256 키 길이 (256 bits)
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    // 예제/기본값으로 쓰이는 키
+    private static final Set<String> PLACEHOLDERS = Set.of("change-me", "changeme", "changeit");
+
+    private final Map<String, MacSigner> signers;
+
+    private final SigningKey activeKey;
+
+    public JwtKeyRing(Map<String, String> keys, String activeKeyId) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("No JWT signing key configured (my-app.jwt-signing-keys)");
+        }
+        Map<String, MacSigner> signers = new HashMap<>();
+        keys.forEach((keyId, secret) -> signers.put(keyId, new MacSigner(validate(keyId, secret))));
+        if (activeKeyId == null || !signers.containsKey(activeKeyId)) {
+            throw new IllegalArgumentException("Unknown active JWT key id: " + activeKeyId);
+        }
+        this.signers = Map.copyOf(signers);
+        this.activeKey = new SigningKey(activeKeyId, signers.get(activeKeyId));
+    }
+
+    public String getActiveKeyId() {
+        return activeKey.getId();
+    }
+
+    // key id 와 서명 키를 함께 전달해서 kid 와 서명이 일치
+    public SigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    public MacSigner getVerifier(String keyId) {
+        MacSigner verifier = keyId == null ? null : signers.get(keyId);
+        if (verifier == null) {
+            throw new InvalidTokenException("Unknown JWT key id: " + keyId);
+        }
+        return verifier;
+    }
+
+    private static String validate(String keyId, String secret) {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException("JWT signing key '" + keyId + "' must be at least " + MIN_SECRET_LENGTH + " bytes");
+        }
+        String lowerCase = secret.toLowerCase(Locale.ROOT);
+        if (PLACEHOLDERS.stream().anyMatch(lowerCase::contains)) {
+            throw new IllegalArgumentException("JWT signing key '" + keyId + "' is a placeholder value");
+        }
+        return secret;
+    }
+
+    @Value
+    public static class SigningKey {
+
+        String id;
+
+        MacSigner signer;
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.kyunghwan.demorestapi.configs;
+
+// 비밀번호 인코더 작업을 받을 스레드가 없거나 제한 시간을 넘긴 경우, 503 temporarily_unavailable 로 응답
+// 토큰 엔드포인트(password grant)는 AuthServerConfig, 클라이언트 인증 등 필터는 PasswordEncoderBusyFilter 에서 처리
+public class PasswordEncoderBusyException extends RuntimeException {
+
+    public static final String ERROR_CODE = "temporarily_unavailable";
+
+    public static final String RETRY_AFTER_SECONDS = "1";
+
+    public PasswordEncoderBusyException(String msg, Throwable t) {
+        super(msg, t);
+    }
+
+    // 다른 예외에 감싸져 있어도 찾는다 (NestedServletException, InternalAuthenticationServiceException 등)
+    public static PasswordEncoderBusyException find(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PasswordEncoderBusyException) {
+                return (PasswordEncoderBusyException) cause;
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Spring Security 필터(클라이언트 인증 BasicAuthenticationFilter 등)에서 비밀번호 인코더가 바빠 실패하면 503 응답
+// 토큰 엔드포인트 안(password grant)에서 발생한 경우는 AuthServerConfig 의 exceptionTranslator 가 처리
+public class PasswordEncoderBusyFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+
+    public PasswordEncoderBusyFilter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (RuntimeException | ServletException e) {
+            PasswordEncoderBusyException busy = PasswordEncoderBusyException.find(e);
+            if (busy == null || response.isCommitted()) {
+                throw e;
+            }
+            // 토큰 엔드포인트의 OAuth2 에러 응답과 같은 형식
+            Map<String, String> body = new LinkedHashMap<>();
+            body.put("error", PasswordEncoderBusyException.ERROR_CODE);
+            body.put("error_description", busy.getMessage());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, PasswordEncoderBusyException.RETRY_AFTER_SECONDS);
+            response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), body);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.kyunghwan.demorestapi.configs;
+
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+// Spring HATEOAS 의 HAL 컨버터와 같은 설정으로, 풀에서 빌린 버퍼에 직렬화한 뒤 한 번에 응답
+// Content-Length 를 알 수 있어 chunked 인코딩 대신 길이로 응답하고, 압축 최소 크기(server.compression.min-response-size)가 적용된다
+public class PooledHalHttpMessageConverter extends TypeConstrainedMappingJackson2HttpMessageConverter {
+
+    private final SerializationBufferPool bufferPool;
+
+    public PooledHalHttpMessageConverter(MappingJackson2HttpMessageConverter halConverter, SerializationBufferPool bufferPool) {
+        super(ResourceSupport.class);
+        setObjectMapper(halConverter.getObjectMapper());
+        setSupportedMediaTypes(halConverter.getSupportedMediaTypes());
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        SerializationBufferPool.Buffer buffer = this.bufferPool.acquire();
+        try {
+            super.writeInternal(object, type, new BufferedOutputMessage(outputMessage.getHeaders(), buffer));
+            // 헤더는 getBody() 를 처음 호출할 때 기록되므로 그 전에 길이 설정
+            outputMessage.getHeaders().setContentLength(buffer.size());
+            buffer.writeTo(outputMessage.getBody());
+        } finally {
+            this.bufferPool.release(buffer);
+        }
+    }
+
+    private static class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers;
+
+        private final OutputStream body;
+
+        BufferedOutputMessage(HttpHeaders headers, OutputStream body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+    }
+
+}
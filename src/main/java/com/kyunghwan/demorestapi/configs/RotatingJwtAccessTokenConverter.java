@@ -0,0 +1,57 @@
+package com.kyunghwan.demorestapi.configs;
+
+import org.springframework.security.jwt.Jwt;
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.common.util.JsonParser;
+import org.springframework.security.oauth2.common.util.JsonParserFactory;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.util.Map;
+
+public class RotatingJwtAccessTokenConverter extends JwtAccessTokenConverter {
+
+    private static final String KEY_ID = "kid";
+
+    private final JsonParser jsonParser = JsonParserFactory.create();
+
+    private final JwtKeyRing keyRing;
+
+    public RotatingJwtAccessTokenConverter(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    @Override
+    protected String encode(OAuth2AccessToken accessToken, OAuth2Authentication authentication) {
+        String content;
+        try {
+            content = jsonParser.formatMap(getAccessTokenConverter().convertAccessToken(accessToken, authentication));
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot convert access token to JSON", e);
+        }
+        JwtKeyRing.SigningKey activeKey = keyRing.getActiveKey();
+        return JwtHelper.encode(content, activeKey.getSigner(), Map.of(KEY_ID, activeKey.getId())).getEncoded();
+    }
+
+    // 헤더의 kid 로 검증 키를 선택 (DB, 토큰 저장소 조회 없음)
+    @Override
+    protected Map<String, Object> decode(String token) {
+        try {
+            String keyId = JwtHelper.headers(token).get(KEY_ID);
+            Jwt jwt = JwtHelper.decodeAndVerify(token, keyRing.getVerifier(keyId));
+            Map<String, Object> claims = jsonParser.parseMap(jwt.getClaims());
+            if (claims.get(EXP) instanceof Integer) {
+                claims.put(EXP, ((Integer) claims.get(EXP)).longValue());
+            }
+            getJwtClaimsSetVerifier().verify(claims);
+            return claims;
+        } catch (InvalidTokenException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InvalidTokenException("Cannot convert access token to JSON", e);
+        }
+    }
+
+}
@@ -1,8 +1,15 @@
 package com.kyunghwan.demorestapi.configs;
 
 import com.kyunghwan.demorestapi.accounts.AccountService;
+import com.kyunghwan.demorestapi.accounts.AccountUserAuthenticationConverter;
+import com.kyunghwan.demorestapi.common.AppProperties;
+import com.kyunghwan.demorestapi.common.TokenMode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,8 +20,12 @@ import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
 import org.springframework.security.oauth2.provider.token.TokenStore;
-import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import javax.sql.DataSource;
 
 @Configuration
 @EnableWebSecurity
@@ -25,9 +36,43 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final DataSource dataSource;
+
+    private final AppProperties appProperties;
+
     @Bean
     public TokenStore tokenStore() {
-        return new InMemoryTokenStore();
+        if (appProperties.getTokenMode() == TokenMode.JWT) {
+            return new JwtTokenStore(accessTokenConverter());
+        }
+        return new ExpiringJdbcTokenStore(dataSource, appProperties.getTokenPurgeBatchSize());
+    }
+
+    // my-app.token-mode=jwt 일 때만, 서명 키가 없거나 약하면 시작 실패
+    @Bean
+    @ConditionalOnProperty(prefix = "my-app", name = "token-mode", havingValue = "jwt")
+    public JwtKeyRing jwtKeyRing() {
+        return new JwtKeyRing(appProperties.getJwtSigningKeys(), appProperties.getJwtActiveKeyId());
+    }
+
+    // account id, roles 를 클레임에 담아 서명
+    @Bean
+    @ConditionalOnProperty(prefix = "my-app", name = "token-mode", havingValue = "jwt")
+    public JwtAccessTokenConverter accessTokenConverter() {
+        DefaultAccessTokenConverter accessTokenConverter = new DefaultAccessTokenConverter();
+        accessTokenConverter.setUserTokenConverter(new AccountUserAuthenticationConverter());
+
+        JwtAccessTokenConverter converter = new RotatingJwtAccessTokenConverter(jwtKeyRing());
+        converter.setAccessTokenConverter(accessTokenConverter);
+        return converter;
+    }
+
+    // Spring Security 필터 체인보다 먼저 실행해서 필터에서 발생한 PasswordEncoderBusyException 을 503 으로 응답
+    @Bean
+    public FilterRegistrationBean<PasswordEncoderBusyFilter> passwordEncoderBusyFilter(ObjectMapper objectMapper) {
+        FilterRegistrationBean<PasswordEncoderBusyFilter> registration = new FilterRegistrationBean<>(new PasswordEncoderBusyFilter(objectMapper));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
     }
 
     @Bean
@@ -0,0 +1,52 @@
+package com.kyunghwan.demorestapi.configs;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// 응답 직렬화용 바이트 버퍼 풀, 요청마다 버퍼를 새로 만들고 늘리지 않도록 재사용
+// 풀이 비어 있으면 새로 만들고, maxRetainedSize 보다 커진 버퍼는 반환하지 않고 버린다
+public class SerializationBufferPool {
+
+    private final BlockingQueue<Buffer> buffers;
+
+    private final int initialSize;
+
+    private final int maxRetainedSize;
+
+    public SerializationBufferPool(int poolSize, int initialSize, int maxRetainedSize) {
+        this.buffers = new ArrayBlockingQueue<>(poolSize);
+        this.initialSize = initialSize;
+        this.maxRetainedSize = maxRetainedSize;
+    }
+
+    public Buffer acquire() {
+        Buffer buffer = buffers.poll();
+        return buffer != null ? buffer : new Buffer(initialSize);
+    }
+
+    public void release(Buffer buffer) {
+        if (buffer.capacity() > maxRetainedSize) {
+            return;
+        }
+        buffer.reset();
+        buffers.offer(buffer);
+    }
+
+    public int available() {
+        return buffers.size();
+    }
+
+    public static class Buffer extends ByteArrayOutputStream {
+
+        Buffer(int size) {
+            super(size);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+
+    }
+
+}
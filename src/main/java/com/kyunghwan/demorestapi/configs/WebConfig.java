@@ -0,0 +1,46 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.kyunghwan.demorestapi.common.AppProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig {
+
+    @Bean
+    public SerializationBufferPool serializationBufferPool(AppProperties appProperties) {
+        return new SerializationBufferPool(appProperties.getSerializationBufferPoolSize(),
+                appProperties.getSerializationBufferInitialSize(), appProperties.getSerializationBufferMaxSize());
+    }
+
+    // Spring HATEOAS 가 추가한 HAL 컨버터를 버퍼 풀을 사용하는 컨버터로 교체
+    // 컨버터 목록은 ExceptionHandlerExceptionResolver 와 공유하므로 목록 자체를 수정한다
+    @Bean
+    public static BeanPostProcessor pooledHalConverterPostProcessor(ObjectProvider<SerializationBufferPool> serializationBufferPool) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RequestMappingHandlerAdapter) {
+                    List<HttpMessageConverter<?>> converters = ((RequestMappingHandlerAdapter) bean).getMessageConverters();
+                    for (int i = 0; i < converters.size(); i++) {
+                        HttpMessageConverter<?> converter = converters.get(i);
+                        if (converter instanceof TypeConstrainedMappingJackson2HttpMessageConverter
+                                && !(converter instanceof PooledHalHttpMessageConverter)) {
+                            converters.set(i, new PooledHalHttpMessageConverter(
+                                    (TypeConstrainedMappingJackson2HttpMessageConverter) converter, serializationBufferPool.getObject()));
+                        }
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.accounts.Account;
+import com.kyunghwan.demorestapi.accounts.CurrentUser;
+import com.kyunghwan.demorestapi.common.AppProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 이벤트 조회 (my-app.event-read-mode=async)
+// 조회(JDBC)는 전용 스레드 풀에서 실행하고 요청 스레드는 바로 반환, 304 확인과 응답 직렬화는 async dispatch 에서 실행
+// 큐가 가득 차면 대기하지 않고 503
+@Controller
+@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_UTF8_VALUE)
+@ConditionalOnProperty(prefix = "my-app", name = "event-read-mode", havingValue = "async")
+public class AsyncEventReadController implements DisposableBean {
+
+    // HikariCP 기본 maximum-pool-size
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final EventQueryService eventQueryService;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Counter rejectedCounter;
+
+    public AsyncEventReadController(EventQueryService eventQueryService, AppProperties appProperties, DataSource dataSource, MeterRegistry meterRegistry) {
+        this.eventQueryService = eventQueryService;
+        int poolSize = poolSize(appProperties, dataSource);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(appProperties.getEventReadQueueCapacity()),
+                new CustomizableThreadFactory("event-read-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("event.read.queue.size", executor, e -> e.getQueue().size())
+                .description("대기 중인 이벤트 조회 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("event.read.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("event.read.rejected")
+                .register(meterRegistry);
+    }
+
+    // 설정하지 않으면 커넥션 풀 크기만큼, 커넥션보다 많은 조회 스레드는 커넥션을 기다리기만 한다
+    private static int poolSize(AppProperties appProperties, DataSource dataSource) {
+        if (appProperties.getEventReadPoolSize() != null) {
+            return appProperties.getEventReadPoolSize();
+        }
+        if (dataSource instanceof HikariDataSource) {
+            return ((HikariDataSource) dataSource).getMaximumPoolSize();
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+
+    @GetMapping(produces = {MediaTypes.HAL_JSON_UTF8_VALUE, MediaType.APPLICATION_JSON_UTF8_VALUE, EventRepresentation.SMILE_VALUE})
+    public CompletableFuture<ResponseEntity> queryEvents(Pageable pageable,
+                                                         PagedResourcesAssembler<Event> assembler,
+                                                         EventSearch search,
+                                                         @RequestParam(required = false) String q,
+                                                         @RequestParam(required = false) String after,
+                                                         @RequestParam(required = false) String before,
+                                                         @RequestParam(defaultValue = "EXACT") EventCountMode count,
+                                                         @RequestParam(required = false) String fields,
+                                                         @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                         @CurrentUser Account account) {
+        EventRepresentation representation = EventRepresentation.of(accept);
+        EventLinks eventLinks = EventLinks.current();
+        return execute(() -> EventResponses.of(this.eventQueryService.queryEvents(pageable, assembler, search, q, after, before, count, fields,
+                representation, eventLinks, ifNoneMatch, account), HttpHeaders.ACCEPT));
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity> getEvent(@PathVariable Integer id,
+                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                      @CurrentUser Account currentUser) {
+        EventLinks eventLinks = EventLinks.current();
+        return execute(() -> this.eventQueryService.getEvent(id, ifNoneMatch, eventLinks, currentUser)
+                // 관리자, 인증 사용자, 익명 사용자마다 링크와 ETag 가 다르므로 Authorization 에 따라 캐시
+                .map(result -> EventResponses.of(result, HttpHeaders.AUTHORIZATION))
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    // 요청, 응답 객체는 요청 스레드에서만 사용, 조회 스레드는 요청에서 꺼낸 값으로 결과만 만든다
+    private CompletableFuture<ResponseEntity> execute(Supplier<ResponseEntity> query) {
+        try {
+            return CompletableFuture.supplyAsync(query, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resources;
+import org.springframework.validation.Errors;
+
+import java.util.List;
+
+// 일괄 생성 결과, 생성된 이벤트와 요청 배열의 index 별 에러
+public class BulkEventResources extends Resources<EventResource> {
+
+    private final List<ItemErrors> errors;
+
+    public BulkEventResources(List<EventResource> content, List<ItemErrors> errors, Link... links) {
+        super(content, links);
+        this.errors = errors;
+    }
+
+    @JsonProperty("errors")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public List<ItemErrors> getErrors() {
+        return errors;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ItemErrors {
+
+        private int index;
+
+        // ErrorsSerializer 로 직렬화
+        private Errors errors;
+
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.kyunghwan.demorestapi.events;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 링크 없는 이벤트 목록 (application/json, Smile)
+@Getter
+@RequiredArgsConstructor
+public class CompactEvents {
+
+    // Event 또는 fields 로 선택한 컬럼의 Map
+    private final List<?> content;
+
+    private final EventPageMetadata page;
+
+}
@@ -1,9 +1,16 @@
 package com.kyunghwan.demorestapi.events;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.kyunghwan.demorestapi.accounts.Account;
 import com.kyunghwan.demorestapi.accounts.AccountSerializer;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -11,9 +18,23 @@ import java.time.LocalDateTime;
 @Builder @AllArgsConstructor @NoArgsConstructor
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Entity
+@Table(indexes = {
+        // 상태 + 등록 기간 필터 (GET /api/events?status=&enrollmentFrom=&enrollmentTo=)
+        @Index(name = "event_status_begin_enrollment_idx", columnList = "eventStatus, beginEnrollmentDateTime"),
+        // 무료/오프라인 + 등록 기간 필터
+        @Index(name = "event_free_offline_begin_enrollment_idx", columnList = "free, offline, beginEnrollmentDateTime")
+})
+@EntityListeners(EventEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event")
+@DynamicUpdate // 변경된 컬럼만 update
 public class Event {
 
-    @Id @GeneratedValue
+    // pooled 시퀀스, insert 마다 nextval 을 호출하지 않아 batch insert 가능
+    @Id
+    @GeneratedValue(generator = "event_seq")
+    @GenericGenerator(name = "event_seq", strategy = "com.kyunghwan.demorestapi.common.PooledSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "event_seq"))
     private Integer id;
     private String name;
     private String description;
@@ -29,9 +50,13 @@ public class Event {
     private boolean free;
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus = EventStatus.DRAFT;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonSerialize(using = AccountSerializer.class)
     private Account manager;
+    @Version @JsonIgnore
+    private Long version;
+    @JsonIgnore
+    private LocalDateTime lastModifiedDateTime;
 
     public void update() {
         // update Free
@@ -39,4 +64,9 @@ public class Event {
         // update offline
         this.offline = !(this.location == null || this.location.trim().equals(""));
     }
+
+    @PrePersist @PreUpdate
+    public void updateLastModifiedDateTime() {
+        this.lastModifiedDateTime = LocalDateTime.now();
+    }
 }
@@ -1,41 +1,67 @@
 package com.kyunghwan.demorestapi.events;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kyunghwan.demorestapi.accounts.Account;
 import com.kyunghwan.demorestapi.accounts.CurrentUser;
+import com.kyunghwan.demorestapi.common.AppProperties;
 import com.kyunghwan.demorestapi.common.ErrorsResource;
+import com.kyunghwan.demorestapi.index.IndexController;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PagedResourcesAssembler;
-import org.springframework.hateoas.Link;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.hateoas.MediaTypes;
-import org.springframework.hateoas.PagedResources;
-import org.springframework.hateoas.Resource;
-import org.springframework.hateoas.mvc.ControllerLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
 
 @Controller
 @RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_UTF8_VALUE)
 @RequiredArgsConstructor
 public class EventController {
 
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final EventRepository eventRepository;
 
-    private final ModelMapper modelMapper;
+    private final EventMapper eventMapper;
 
     private final EventValidator eventValidator;
 
+    private final Validator validator;
+
+    private final EventExportService eventExportService;
+
+    private final ObjectMapper objectMapper;
+
+    private final AppProperties appProperties;
+
     @PostMapping
     public ResponseEntity createEvent(@RequestBody @Valid EventDto eventDto,
                                       Errors errors,
@@ -49,72 +75,105 @@ public class EventController {
             return badRequest(errors);
         }
 
-        Event event = this.modelMapper.map(eventDto, Event.class);
+        Event event = this.eventMapper.toEvent(eventDto);
         event.update();
         event.setManager(currentUser);
         Event newEvent = this.eventRepository.save(event);
 
         // location headers
-        ControllerLinkBuilder selfLinkBuilder = linkTo(EventController.class).slash(newEvent.getId());
-        URI createdUri = selfLinkBuilder.toUri();
+        EventLinks eventLinks = EventLinks.current();
+        URI createdUri = eventLinks.toUri(newEvent.getId());
 
         // link 추가
-        EventResource eventResource = new EventResource(event);
+        EventResource eventResource = new EventResource(event, eventLinks);
         // 이벤트 목록
-        eventResource.add(linkTo(EventController.class).withRel("query-events"));
+        eventResource.add(eventLinks.queryEvents());
         // 자신의 이벤트 업데이트
-        eventResource.add(selfLinkBuilder.withRel("update-event"));
+        eventResource.add(eventLinks.updateEvent(newEvent.getId()));
         // 프로필 정보 추가
-        eventResource.add(new Link("/docs/index.html#resource-events-create").withRel("profile"));
+        eventResource.add(eventLinks.profile("resource-events-create"));
 
         return ResponseEntity.created(createdUri).body(eventResource);
     }
 
-    @GetMapping
-    public ResponseEntity queryEvents(Pageable pageable,
-                                      PagedResourcesAssembler<Event> assembler,
-                                      @CurrentUser Account account) {
-        Page<Event> page = this.eventRepository.findAll(pageable);
-        PagedResources<Resource<Event>> pagedResources = assembler.toResource(page, e -> new EventResource(e));
-        if (account != null) {
-            pagedResources.add(linkTo(EventController.class).withRel("create-event"));
-            pagedResources.add(new Link("/docs/index.html#resources-events-list-authentication").withRel("profile"));
-        } else {
-            pagedResources.add(new Link("/docs/index.html#resource-events-list").withRel("profile"));
-        }
-        return ResponseEntity.ok(pagedResources);
-    }
-
-    @GetMapping("/{id}")
-    public ResponseEntity getEvent(@PathVariable Integer id,
-                                   @CurrentUser Account currentUser) {
-        Optional<Event> optionalEvent = eventRepository.findById(id);
-        if (optionalEvent.isEmpty()) {
-            return ResponseEntity.notFound().build();
+    @PostMapping("/bulk")
+    public ResponseEntity createEvents(@RequestBody List<EventDto> eventDtos,
+                                       @CurrentUser Account currentUser) {
+        // 한 요청이 검증, insert, 응답할 수 있는 최대 항목 수
+        int maxSize = this.appProperties.getEventBulkMaxSize();
+        if (eventDtos.size() > maxSize) {
+            Errors errors = new MapBindingResult(new HashMap<>(), "eventDtos");
+            errors.reject("TooManyEvents", new Object[]{maxSize}, "At most " + maxSize + " events can be created at once");
+            return badRequest(errors);
         }
 
-        Event event = optionalEvent.get();
-        EventResource eventResource = new EventResource(event);
-        if (event.getManager().equals(currentUser)) {
-            eventResource.add(linkTo(EventController.class).slash(event.getId()).withRel("update-event"));
-            eventResource.add(new Link("/docs/index.html#rresources-events-get-equals-user").withRel("profile"));
-        }
+        // List 요소에는 @Valid 가 적용되지 않으므로 요소마다 직접 검증
+        SpringValidatorAdapter beanValidator = new SpringValidatorAdapter(this.validator);
+        List<Event> events = new ArrayList<>();
+        List<BulkEventResources.ItemErrors> itemErrors = new ArrayList<>();
+        for (int index = 0; index < eventDtos.size(); index++) {
+            EventDto eventDto = eventDtos.get(index);
+            if (eventDto == null) {
+                Errors errors = new MapBindingResult(new HashMap<>(), "eventDto");
+                errors.reject("NullValue", "Event must not be null");
+                itemErrors.add(new BulkEventResources.ItemErrors(index, errors));
+                continue;
+            }
 
-        if (currentUser != null && !event.getManager().equals(currentUser)){
-            eventResource.add(new Link("/docs/index.html#resources-events-get-authentication").withRel("profile"));
+            Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+            beanValidator.validate(eventDto, errors);
+            if (!errors.hasErrors()) {
+                this.eventValidator.validate(eventDto, errors);
+            }
+            if (errors.hasErrors()) {
+                itemErrors.add(new BulkEventResources.ItemErrors(index, errors));
+                continue;
+            }
+
+            Event event = this.eventMapper.toEvent(eventDto);
+            event.update();
+            event.setManager(currentUser);
+            events.add(event);
         }
 
-        if (currentUser == null){
-            eventResource.add(new Link("/docs/index.html#resources-events-get").withRel("profile"));
+        if (events.isEmpty()) {
+            BulkEventResources resources = new BulkEventResources(Collections.emptyList(), itemErrors);
+            resources.add(linkTo(methodOn(IndexController.class).index()).withRel("index"));
+            return ResponseEntity.badRequest().body(resources);
         }
-        eventResource.add(linkTo(EventController.class).withRel("query-events"));
-        return ResponseEntity.ok(eventResource);
+
+        // 한 트랜잭션에서 JDBC batch insert
+        EventLinks eventLinks = EventLinks.current();
+        List<EventResource> content = this.eventRepository.saveAll(events).stream()
+                .map(event -> {
+                    EventResource eventResource = new EventResource(event, eventLinks);
+                    eventResource.add(eventLinks.updateEvent(event.getId()));
+                    return eventResource;
+                })
+                .collect(Collectors.toList());
+
+        BulkEventResources resources = new BulkEventResources(content, itemErrors);
+        resources.add(eventLinks.bulkSelf());
+        resources.add(eventLinks.queryEvents());
+        resources.add(eventLinks.profile("resources-events-bulk-create"));
+        return ResponseEntity.status(HttpStatus.CREATED).body(resources);
+    }
+
+    @GetMapping(value = "/export", produces = EventController.NDJSON_VALUE)
+    public void exportEvents(@RequestParam(required = false) EventStatus status,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                             HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        this.eventExportService.export(status, from, to, response.getOutputStream());
     }
 
     @PutMapping("/{id}")
     public ResponseEntity updateEvent(@PathVariable Integer id,
                                       @RequestBody @Valid EventDto eventDto,
                                       Errors errors,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                       @CurrentUser Account currentUser) {
         Optional<Event> optionalEvent = eventRepository.findById(id);
         if (optionalEvent.isEmpty()) {
@@ -131,19 +190,111 @@ public class EventController {
         }
 
         Event event = optionalEvent.get();
-        if (!event.getManager().equals(currentUser)) {
+        if (!isManager(event, currentUser)) {
             return new ResponseEntity(HttpStatus.UNAUTHORIZED);
         }
 
-        this.modelMapper.map(eventDto, event);
+        // 조회한 버전과 다르면 다른 사용자가 먼저 수정한 것
+        String eTag = EventETag.of(event.getId(), event.getVersion(), EventETag.Variant.MANAGER);
+        if (ifMatch != null && !EventETag.matches(ifMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(eTag).build();
+        }
+
+        // 요금, 장소가 바뀌면 free, offline 도 다시 계산 (PATCH 와 같은 결과)
+        this.eventMapper.update(eventDto, event);
+        event.update();
+
+        return saveUpdatedEvent(event, ifMatch != null, "resources-events-update");
+    }
 
-        Event savedEvent = eventRepository.save(event);
+    @PatchMapping(value = "/{id}", consumes = EventController.MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity patchEvent(@PathVariable Integer id,
+                                     @RequestBody JsonNode patch,
+                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                     @CurrentUser Account currentUser) {
+        Optional<Event> optionalEvent = eventRepository.findById(id);
+        if (optionalEvent.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
 
-        EventResource eventResource = new EventResource(savedEvent);
-        eventResource.add(new Link("/docs/index.html#resources-events-update").withRel("profile"));
-        eventResource.add(linkTo(EventController.class).withRel("query-events"));
+        Event event = optionalEvent.get();
+        if (!isManager(event, currentUser)) {
+            return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+        }
+
+        String eTag = EventETag.of(event.getId(), event.getVersion(), EventETag.Variant.MANAGER);
+        if (ifMatch != null && !EventETag.matches(ifMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(eTag).build();
+        }
+
+        // JSON Merge Patch (RFC 7396), 현재 값에 patch 에 있는 필드만 덮어쓴다
+        EventDto eventDto = this.eventMapper.toDto(event);
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        if (!patch.isObject()) {
+            errors.reject("InvalidPatch", "Merge patch must be a JSON object");
+            return badRequest(errors);
+        }
+        try {
+            this.objectMapper.readerForUpdating(eventDto).readValue(patch);
+        } catch (IOException e) {
+            errors.reject("InvalidPatch", "Merge patch is wrong");
+            return badRequest(errors);
+        }
+
+        // 변경된 필드와 그 필드가 포함된 필드 간 제약만 검증
+        List<String> changedFields = new ArrayList<>();
+        patch.fieldNames().forEachRemaining(changedFields::add);
+        for (String field : changedFields) {
+            for (ConstraintViolation<EventDto> violation : this.validator.validateProperty(eventDto, field)) {
+                String code = violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
+                errors.rejectValue(field, code, violation.getMessage());
+            }
+        }
+        if (errors.hasErrors()) {
+            return badRequest(errors);
+        }
+
+        this.eventValidator.validate(eventDto, errors, changedFields);
+        if (errors.hasErrors()) {
+            return badRequest(errors);
+        }
+
+        // 변경되지 않은 필드는 dirty checking 에서 빠지고 @DynamicUpdate 로 변경된 컬럼만 update
+        this.eventMapper.update(eventDto, event);
+        event.update();
+        return saveUpdatedEvent(event, ifMatch != null, "resources-events-patch");
+    }
+
+    private ResponseEntity saveUpdatedEvent(Event event, boolean conditional, String profile) {
+        // 조회 후 저장 전에 수정된 경우 update ... where version = ? 가 실패
+        Event savedEvent;
+        try {
+            savedEvent = eventRepository.save(event);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // If-Match 를 보냈으면 조건 실패(412), 아니면 충돌(409), 다시 조회해서 현재 ETag 전달
+            HttpStatus status = conditional ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+            return eventRepository.findById(event.getId())
+                    .map(current -> ResponseEntity.status(status)
+                            .eTag(EventETag.of(current.getId(), current.getVersion(), EventETag.Variant.MANAGER))
+                            .build())
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        }
+
+        EventLinks eventLinks = EventLinks.current();
+        EventResource eventResource = new EventResource(savedEvent, eventLinks);
+        eventResource.add(eventLinks.profile(profile));
+        eventResource.add(eventLinks.queryEvents());
+
+        return ResponseEntity.ok()
+                .eTag(EventETag.of(savedEvent.getId(), savedEvent.getVersion(), EventETag.Variant.MANAGER))
+                .lastModified(EventETag.lastModified(savedEvent.getLastModifiedDateTime()))
+                .body(eventResource);
+    }
 
-        return ResponseEntity.ok(eventResource);
+    // 매니저 프록시를 초기화하지 않도록 id 로 비교
+    private boolean isManager(Event event, Account account) {
+        return account != null && event.getManager() != null
+                && account.getId().equals(event.getManager().getId());
     }
 
     private ResponseEntity badRequest(Errors errors) {
@@ -0,0 +1,52 @@
+package com.kyunghwan.demorestapi.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EventCountEstimator {
+
+    private static final String RELTUPLES_SQL = "select reltuples::bigint from pg_class where oid = 'event'::regclass";
+
+    private final EventRepository eventRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    private volatile long estimate = -1;
+
+    public long estimate() {
+        if (this.estimate < 0) {
+            refresh();
+        }
+        return this.estimate;
+    }
+
+    // PostgreSQL 은 통계 정보(pg_class.reltuples), 그 외에는 count 결과를 캐시
+    @Scheduled(fixedDelayString = "#{@appProperties.eventCountRefreshInterval}")
+    public void refresh() {
+        long count = -1;
+        if (isPostgres()) {
+            Long reltuples = this.jdbcTemplate.queryForObject(RELTUPLES_SQL, Long.class);
+            count = reltuples == null ? -1 : reltuples;
+        }
+        if (count < 0) {
+            count = this.eventRepository.count();
+        }
+        this.estimate = count;
+    }
+
+    private boolean isPostgres() {
+        if (this.postgres == null) {
+            String product = this.jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            this.postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return this.postgres;
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.kyunghwan.demorestapi.events;
+
+public enum EventCountMode {
+
+    EXACT, APPROXIMATE, NONE;
+}
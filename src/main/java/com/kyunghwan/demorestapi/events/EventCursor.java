@@ -0,0 +1,28 @@
+package com.kyunghwan.demorestapi.events;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+public class EventCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private EventCursor() {
+    }
+
+    public static String encode(Integer id) {
+        return ENCODER.encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 커서는 빈 값
+    public static Optional<Integer> decode(String cursor) {
+        try {
+            return Optional.of(Integer.valueOf(new String(DECODER.decode(cursor), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+}
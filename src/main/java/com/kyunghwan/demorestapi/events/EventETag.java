@@ -0,0 +1,72 @@
+package com.kyunghwan.demorestapi.events;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+public class EventETag {
+
+    // 같은 이벤트라도 사용자에 따라 링크가 다르므로 ETag 를 구분
+    public enum Variant {
+        ANONYMOUS, AUTHENTICATED, MANAGER
+    }
+
+    private EventETag() {
+    }
+
+    public static String of(Integer id, Long version, Variant variant) {
+        return "\"" + id + "-" + version + "-" + variant.name().toLowerCase(Locale.ROOT) + "\"";
+    }
+
+    // 목록은 페이지에 포함된 이벤트의 id, version 과 전체 개수로 계산
+    public static String ofList(List<Event> events, long total, Variant variant) {
+        return ofList(events, Event::getId, Event::getVersion, total, variant.name());
+    }
+
+    // 링크 없는 표현은 사용자와 관계없이 표현(media type, fields)으로 구분
+    public static <T> String ofList(List<T> items, Function<T, Integer> id, Function<T, Long> version, long total, String variant) {
+        StringBuilder builder = new StringBuilder()
+                .append(variant).append('|')
+                .append(total).append('|');
+        items.forEach(item -> builder.append(id.apply(item)).append(':').append(version.apply(item)).append(','));
+        return "\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // If-Match 는 강한 비교, * 는 리소스가 존재하면 일치
+    public static boolean matches(String ifMatch, String eTag) {
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-None-Match 는 약한 비교, * 는 비교하지 않고 본문을 만든다
+    public static boolean notModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static long lastModified(LocalDateTime lastModifiedDateTime) {
+        return lastModifiedDateTime == null ? -1 : lastModifiedDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.kyunghwan.demorestapi.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+// 이벤트 저장, 삭제를 전문 검색 인덱스와 익명 목록 응답 캐시에 반영
+// EntityManagerFactory 생성 중에 만들어지므로 인덱스(EventRepository 사용)는 사용 시점에 조회
+// 콜백은 flush 시점에 호출되므로 인덱스는 커밋 후 갱신 (롤백된 변경은 반영하지 않음)
+@Component
+@RequiredArgsConstructor
+public class EventEntityListener {
+
+    private final ObjectProvider<EventSearchIndex> eventSearchIndex;
+
+    private final ObjectProvider<EventPageCache> eventPageCache;
+
+    @PostPersist @PostUpdate
+    public void index(Event event) {
+        afterCommit(() -> eventSearchIndex.getObject().index(event));
+        eventPageCache.getObject().invalidate();
+    }
+
+    @PostRemove
+    public void remove(Event event) {
+        afterCommit(() -> eventSearchIndex.getObject().remove(event));
+        eventPageCache.getObject().invalidate();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kyunghwan.demorestapi.common.AppProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class EventExportService {
+
+    private final EventRepository eventRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final AppProperties appProperties;
+
+    // 이벤트 하나당 JSON 한 줄(NDJSON), 트랜잭션 안에서만 DB 커서의 fetch size 가 적용됨
+    @Transactional(readOnly = true)
+    public void export(EventStatus status, LocalDateTime from, LocalDateTime to, OutputStream outputStream) throws IOException {
+        // 이벤트마다 flush 하지 않고 generator 버퍼가 찰 때 응답으로 내보냄
+        ObjectWriter writer = objectMapper.writerFor(Event.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            this.eventRepository.scrollAll(status, from, to, appProperties.getEventExportFetchSize(), event -> {
+                try {
+                    writer.writeValue(generator, event);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.kyunghwan.demorestapi.events;
+
+import org.springframework.validation.Errors;
+
+import javax.persistence.Tuple;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// fields 파라미터로 선택한 이벤트 컬럼, 선택한 컬럼만 조회하고 직렬화
+public class EventFields {
+
+    // 연관 관계(manager)와 @JsonIgnore 필드는 제외
+    public static final List<String> NAMES = List.of("id", "name", "description",
+            "beginEnrollmentDateTime", "closeEnrollmentDateTime", "beginEventDateTime", "endEventDateTime",
+            "location", "basePrice", "maxPrice", "limitOfEnrollment", "offline", "free", "eventStatus");
+
+    private final List<String> names;
+
+    private EventFields(List<String> names) {
+        this.names = names;
+    }
+
+    // 쉼표로 구분, 없는 필드가 있으면 errors 에 추가하고 null
+    public static EventFields parse(String fields, Errors errors) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!NAMES.contains(name)) {
+                errors.rejectValue("fields", "UnknownField", "Unknown field: " + name);
+                continue;
+            }
+            names.add(name);
+        }
+        if (names.isEmpty() && !errors.hasErrors()) {
+            errors.rejectValue("fields", "EmptyFields", "Fields must not be empty");
+        }
+        return errors.hasErrors() ? null : new EventFields(List.copyOf(names));
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    // ETag 계산에 필요한 id, version 은 요청하지 않아도 조회
+    public List<String> selection() {
+        List<String> selection = new ArrayList<>(names);
+        if (!names.contains("id")) {
+            selection.add("id");
+        }
+        selection.add("version");
+        return selection;
+    }
+
+    public Map<String, Object> toMap(Tuple row) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        names.forEach(name -> map.put(name, row.get(name)));
+        return map;
+    }
+
+    public static Integer id(Tuple row) {
+        return row.get("id", Integer.class);
+    }
+
+    public static Long version(Tuple row) {
+        return row.get("version", Long.class);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", names);
+    }
+
+}
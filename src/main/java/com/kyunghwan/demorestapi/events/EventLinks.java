@@ -0,0 +1,101 @@
+package com.kyunghwan.demorestapi.events;
+
+import org.springframework.hateoas.Link;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+
+// 이벤트 링크 생성
+// linkTo(EventController.class) 는 기본 URI(scheme, host, port, context path)마다 한 번만 계산하고, 링크는 문자열을 이어 붙여 생성
+// 결과는 linkTo(EventController.class).slash(id).withRel(...) 와 같다
+public class EventLinks {
+
+    // Host 헤더는 클라이언트가 정하므로 캐시 크기를 제한, 넘치면 캐시하지 않고 계산
+    private static final int MAX_CACHED_BASE_URIS = 64;
+
+    private static final Map<String, EventLinks> CACHE = new ConcurrentHashMap<>();
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private static final String PROFILE = "/docs/index.html#";
+
+    private final String eventsUri;
+
+    EventLinks(String eventsUri) {
+        this.eventsUri = eventsUri;
+    }
+
+    // 현재 요청의 기본 URI 로 만든 링크 생성기, 기본 URI 별로 재사용
+    public static EventLinks current() {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        String baseUri = baseUri(request);
+        EventLinks eventLinks = CACHE.get(baseUri);
+        if (eventLinks == null) {
+            eventLinks = new EventLinks(linkTo(EventController.class).toString());
+            if (CACHE.size() < MAX_CACHED_BASE_URIS) {
+                CACHE.putIfAbsent(baseUri, eventLinks);
+            }
+        }
+        return eventLinks;
+    }
+
+    // linkTo 가 기본 URI 를 만들 때 읽는 값 (ServletUriComponentsBuilder.fromServletMapping, X-Forwarded-Ssl)
+    private static String baseUri(HttpServletRequest request) {
+        String servletPath = StringUtils.hasText(URL_PATH_HELPER.getPathWithinServletMapping(request)) ? request.getServletPath() : "";
+        return request.getScheme() + "://" + request.getServerName() + ":" + request.getServerPort()
+                + request.getContextPath() + servletPath + " " + request.getHeader("X-Forwarded-Ssl");
+    }
+
+    // 요청 호스트, X-Forwarded-* 헤더로 결정된 이벤트 목록 URI (응답 캐시 키)
+    public String getEventsUri() {
+        return eventsUri;
+    }
+
+    public Link self(Integer id) {
+        return new Link(eventUri(id));
+    }
+
+    public Link updateEvent(Integer id) {
+        return new Link(eventUri(id), "update-event");
+    }
+
+    public Link queryEvents() {
+        return new Link(eventsUri, "query-events");
+    }
+
+    public Link createEvent() {
+        return new Link(eventsUri, "create-event");
+    }
+
+    // 일괄 생성 응답의 self 링크
+    public Link bulkSelf() {
+        return new Link(eventsUri + "/bulk");
+    }
+
+    public Link profile(String section) {
+        return new Link(PROFILE + section, "profile");
+    }
+
+    public URI toUri(Integer id) {
+        return URI.create(eventUri(id));
+    }
+
+    // 페이지, 커서 링크
+    public UriComponentsBuilder toUriComponentsBuilder() {
+        return UriComponentsBuilder.fromUriString(eventsUri);
+    }
+
+    private String eventUri(Integer id) {
+        return eventsUri + "/" + id;
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 이벤트 목록(GET /api/events) 응답 캐시, 익명/인증 사용자 응답의 직렬화된 HAL JSON 을 그대로 보관
+// 이벤트가 저장, 삭제되면 커밋 후 비우고, 벌크 쿼리 등으로 놓친 변경은 TTL(ehcache.xml) 로 만료
+@Component
+public class EventPageCache {
+
+    public static final String CACHE_NAME = "eventPages";
+
+    private final Cache cache;
+
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    // MVC 가 HAL 응답에 사용하는 ObjectMapper (빈이 아니라 HAL 컨버터가 가지고 있음)
+    private volatile ObjectMapper halObjectMapper;
+
+    // 조회 중에 변경이 있었으면 이전 결과를 저장하지 않도록 세대 번호로 확인
+    private final AtomicLong generation = new AtomicLong();
+
+    public EventPageCache(CacheManager cacheManager, ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.handlerAdapter = handlerAdapter;
+    }
+
+    // 본문의 링크는 요청마다 다른 기본 URI 로 만들어지므로 키에 포함
+    public static String key(String eventsUri, Pageable pageable, EventSearch search, String q, EventCountMode count) {
+        return eventsUri + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize() + "|" + pageable.getSort()
+                + "|" + count + "|" + q + "|" + search;
+    }
+
+    public Entry get(String key) {
+        return cache.get(key, Entry.class);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    // 익명 응답과 인증 사용자 응답(EventQueryService.addListLinks 와 같은 순서)을 한 번씩 직렬화해서 저장
+    // 인증 사용자 응답은 익명 응답의 profile 앞에 create-event 를 추가하고 profile 을 바꾼 것
+    public void put(String key, PagedResources<Resource<Event>> resources, Link createEvent, Link profile, long startGeneration) {
+        List<Link> links = new ArrayList<>();
+        for (Link link : resources.getLinks()) {
+            if (link.getRel().equals(profile.getRel())) {
+                links.add(createEvent);
+                links.add(profile);
+            } else {
+                links.add(link);
+            }
+        }
+        PagedResources<Resource<Event>> authenticated = new PagedResources<>(resources.getContent(), resources.getMetadata(), links);
+
+        List<Event> events = resources.getContent().stream().map(Resource::getContent).collect(Collectors.toList());
+        long total = resources.getMetadata().getTotalElements();
+        Entry entry = new Entry(serialize(resources), serialize(authenticated),
+                EventETag.ofList(events, total, EventETag.Variant.ANONYMOUS),
+                EventETag.ofList(events, total, EventETag.Variant.AUTHENTICATED));
+        if (generation.get() != startGeneration) {
+            return;
+        }
+        cache.put(key, entry);
+        // 확인과 저장 사이에 커밋된 변경이 있으면 방금 저장한 항목을 제거 (clear 는 세대 번호를 먼저 올린다)
+        if (generation.get() != startGeneration) {
+            cache.evict(key);
+        }
+    }
+
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear();
+            return;
+        }
+        // 트랜잭션당 한 번, 커밋 후 비운다 (커밋 전에 비우면 다른 요청이 이전 데이터로 다시 채울 수 있음)
+        generation.incrementAndGet();
+        if (!TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(EventPageCache.this);
+                }
+            });
+        }
+    }
+
+    private ObjectMapper halObjectMapper() {
+        if (halObjectMapper == null) {
+            halObjectMapper = handlerAdapter.getObject().getMessageConverters().stream()
+                    .filter(converter -> converter instanceof TypeConstrainedMappingJackson2HttpMessageConverter)
+                    .filter(converter -> converter.canWrite(PagedResources.class, MediaTypes.HAL_JSON_UTF8))
+                    .map(converter -> ((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("HAL message converter not found"));
+        }
+        return halObjectMapper;
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private byte[] serialize(Object resources) {
+        try {
+            return halObjectMapper().writeValueAsBytes(resources);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry implements Serializable {
+
+        private final byte[] anonymousBody;
+
+        private final byte[] authenticatedBody;
+
+        private final String anonymousETag;
+
+        private final String authenticatedETag;
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.hateoas.PagedResources;
+
+public class EventPageMetadata extends PagedResources.PageMetadata {
+
+    @JsonProperty
+    private boolean exact;
+
+    public EventPageMetadata(PagedResources.PageMetadata metadata, boolean exact) {
+        super(metadata.getSize(), metadata.getNumber(), metadata.getTotalElements(), metadata.getTotalPages());
+        this.exact = exact;
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.kyunghwan.demorestapi.events;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.validation.Errors;
+
+// 이벤트 조회 결과 (본문과 버전)
+// 조건부 요청(304), ETag 등 응답 헤더는 컨트롤러(EventResponses)에서 처리
+// 요청한 버전(If-None-Match)과 같으면 본문은 만들지 않는다 (null)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventQueryResult {
+
+    private final String eTag;
+
+    private final long lastModified;
+
+    // null 이면 컨트롤러의 content negotiation 사용
+    private final MediaType contentType;
+
+    private final Object body;
+
+    // 잘못된 요청 (400)
+    private final Errors errors;
+
+    public static EventQueryResult of(String eTag, Object body) {
+        return new EventQueryResult(eTag, -1, null, body, null);
+    }
+
+    public static EventQueryResult of(String eTag, long lastModified, Object body) {
+        return new EventQueryResult(eTag, lastModified, null, body, null);
+    }
+
+    public static EventQueryResult of(String eTag, MediaType contentType, Object body) {
+        return new EventQueryResult(eTag, -1, contentType, body, null);
+    }
+
+    public static EventQueryResult invalid(Errors errors) {
+        return new EventQueryResult(null, -1, null, null, errors);
+    }
+
+}
@@ -0,0 +1,355 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.accounts.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.persistence.Tuple;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 이벤트 목록, 단건 조회 (GET /api/events, /api/events/{id}), 본문과 버전(ETag)만 만들고 응답은 컨트롤러에서 처리
+// 매핑은 my-app.event-read-mode 에 따라 EventReadController(요청 스레드) 또는 AsyncEventReadController(전용 스레드 풀)
+@Service
+@RequiredArgsConstructor
+public class EventQueryService {
+
+    private final EventRepository eventRepository;
+
+    private final EventCountEstimator eventCountEstimator;
+
+    private final EventSearchIndex eventSearchIndex;
+
+    private final EventPageCache eventPageCache;
+
+    // 이벤트 목록 조회
+    // representation 은 Accept 헤더, eventLinks 는 요청의 기본 URI, ifNoneMatch 는 클라이언트가 가진 버전(ETag)
+    public EventQueryResult queryEvents(Pageable pageable,
+                                        PagedResourcesAssembler<Event> assembler,
+                                        EventSearch search,
+                                        String q,
+                                        String after,
+                                        String before,
+                                        EventCountMode count,
+                                        String fields,
+                                        EventRepresentation representation,
+                                        EventLinks eventLinks,
+                                        String ifNoneMatch,
+                                        Account account) {
+        boolean fullText = q != null && !q.isBlank();
+        boolean cursor = after != null || before != null;
+
+        if (representation.isCompact() || fields != null) {
+            Errors errors = new MapBindingResult(new HashMap<>(Collections.singletonMap("fields", fields)), "eventSearch");
+            if (!representation.isCompact()) {
+                errors.reject("UnsupportedRepresentation", "Fields are supported only for application/json and Smile");
+            } else if (fullText || cursor) {
+                errors.reject("UnsupportedRepresentation", "Compact representations support page listing only");
+            }
+            EventFields eventFields = fields == null || errors.hasErrors() ? null : EventFields.parse(fields, errors);
+            if (errors.hasErrors()) {
+                return EventQueryResult.invalid(errors);
+            }
+            return queryCompactEvents(representation, search, count, eventFields, pageable, ifNoneMatch);
+        }
+
+        // 전문 검색은 관련도 순 페이지 조회(전체 개수 포함)만 지원하므로 필터, 커서, count 는 무시하지 않고 400
+        if (fullText && (cursor || !search.isEmpty() || count != EventCountMode.EXACT)) {
+            Errors errors = new MapBindingResult(new HashMap<>(Collections.singletonMap("q", q)), "eventSearch");
+            errors.reject("UnsupportedSearch", "Full-text search does not support filters, cursors or count modes");
+            return EventQueryResult.invalid(errors);
+        }
+
+        if (cursor) {
+            return queryEventsByCursor(search, after, before, pageable, eventLinks, ifNoneMatch, account);
+        }
+
+        // 익명 응답을 만들 때 인증 사용자 응답까지 직렬화해서 캐시
+        String cacheKey = EventPageCache.key(eventLinks.getEventsUri(), pageable, search, q, count);
+        EventPageCache.Entry cached = this.eventPageCache.get(cacheKey);
+        if (cached != null) {
+            return account == null
+                    ? EventQueryResult.of(cached.getAnonymousETag(), MediaTypes.HAL_JSON_UTF8, cached.getAnonymousBody())
+                    : EventQueryResult.of(cached.getAuthenticatedETag(), MediaTypes.HAL_JSON_UTF8, cached.getAuthenticatedBody());
+        }
+
+        long generation = this.eventPageCache.generation();
+        // 전문 검색은 관련도 순으로 정렬하므로 sort 는 사용하지 않음
+        EventCountMode countMode = countMode(count, search);
+        Page<Event> page = fullText
+                ? this.eventSearchIndex.search(q, pageable)
+                : findPage(EventSpecifications.matching(search), countMode, pageable);
+
+        // 요청한 버전과 같으면 리소스 생성, 직렬화 없이 304
+        String eTag = EventETag.ofList(page.getContent(), page.getTotalElements(), listVariant(account));
+        if (EventETag.notModified(ifNoneMatch, eTag)) {
+            return EventQueryResult.of(eTag, null);
+        }
+
+        // 페이지 링크에 같은 검색어, 필터 유지
+        UriComponentsBuilder baseUri = fullText
+                ? eventLinks.toUriComponentsBuilder().queryParam("q", q)
+                : search.addQueryParams(eventLinks.toUriComponentsBuilder());
+        PagedResources<Resource<Event>> pagedResources = pagedResources(page, assembler, new Link(baseUri.toUriString()), countMode, eventLinks);
+        addListLinks(pagedResources, eventLinks, account);
+        if (account == null) {
+            this.eventPageCache.put(cacheKey, pagedResources,
+                    eventLinks.createEvent(), eventLinks.profile("resources-events-list-authentication"), generation);
+        }
+        return EventQueryResult.of(eTag, pagedResources);
+    }
+
+    private PagedResources<Resource<Event>> pagedResources(Page<Event> page, PagedResourcesAssembler<Event> assembler, Link baseLink,
+                                                           EventCountMode count, EventLinks eventLinks) {
+        PagedResources<Resource<Event>> pagedResources = assembler.toResource(page, e -> new EventResource(e, eventLinks), baseLink);
+        return withCountMode(pagedResources, count);
+    }
+
+    // 링크와 사용자별 차이가 없는 목록, fields 가 있으면 선택한 컬럼만 조회
+    private EventQueryResult queryCompactEvents(EventRepresentation representation, EventSearch search, EventCountMode count,
+                                                EventFields fields, Pageable pageable, String ifNoneMatch) {
+        Specification<Event> spec = EventSpecifications.matching(search);
+        count = countMode(count, search);
+
+        Page<?> page;
+        String eTag;
+        if (fields == null) {
+            Page<Event> events = findPage(spec, count, pageable);
+            eTag = EventETag.ofList(events.getContent(), Event::getId, Event::getVersion, events.getTotalElements(), representation.name());
+            page = events;
+        } else {
+            Slice<Tuple> slice = this.eventRepository.findSlice(spec, pageable, fields.selection());
+            Page<Tuple> rows = count == EventCountMode.EXACT
+                    ? PageableExecutionUtils.getPage(slice.getContent(), pageable, () -> this.eventRepository.count(spec))
+                    : new PageImpl<>(slice.getContent(), pageable, estimateTotal(slice, pageable, count));
+            eTag = EventETag.ofList(rows.getContent(), EventFields::id, EventFields::version, rows.getTotalElements(),
+                    representation.name() + "|" + fields);
+            page = rows.map(fields::toMap);
+        }
+
+        if (EventETag.notModified(ifNoneMatch, eTag)) {
+            return EventQueryResult.of(eTag, representation.getMediaType(), null);
+        }
+
+        PagedResources.PageMetadata metadata = new PagedResources.PageMetadata(page.getSize(), page.getNumber(), page.getTotalElements());
+        CompactEvents compactEvents = new CompactEvents(page.getContent(), new EventPageMetadata(metadata, count == EventCountMode.EXACT));
+        return EventQueryResult.of(eTag, representation.getMediaType(), compactEvents);
+    }
+
+    // 대략적인 총 개수는 전체 테이블 기준이므로 필터가 있으면 사용하지 않는다
+    private EventCountMode countMode(EventCountMode count, EventSearch search) {
+        if (count == EventCountMode.APPROXIMATE && !search.isEmpty()) {
+            return EventCountMode.NONE;
+        }
+        return count;
+    }
+
+    private Page<Event> findPage(Specification<Event> spec, EventCountMode count, Pageable pageable) {
+        if (count == EventCountMode.EXACT) {
+            return this.eventRepository.findAll(spec, pageable);
+        }
+        Slice<Event> slice = this.eventRepository.findSlice(spec, pageable);
+        return new PageImpl<>(slice.getContent(), pageable, estimateTotal(slice, pageable, count));
+    }
+
+    private long estimateTotal(Slice<?> slice, Pageable pageable, EventCountMode count) {
+        long seen = pageable.getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext()) {
+            return seen;
+        }
+        // 다음 페이지가 있다는 것만 알고 있으므로 최소 1건을 더한다
+        long lowerBound = seen + 1;
+        if (count == EventCountMode.APPROXIMATE) {
+            return Math.max(this.eventCountEstimator.estimate(), lowerBound);
+        }
+        return lowerBound;
+    }
+
+    private PagedResources<Resource<Event>> withCountMode(PagedResources<Resource<Event>> resources, EventCountMode count) {
+        EventPageMetadata metadata = new EventPageMetadata(resources.getMetadata(), count == EventCountMode.EXACT);
+        // 전체 개수를 모르면 마지막 페이지 링크는 제공하지 않는다
+        List<Link> links = resources.getLinks().stream()
+                .filter(l -> count != EventCountMode.NONE || !l.getRel().equals(Link.REL_LAST))
+                .collect(Collectors.toList());
+        return new PagedResources<>(resources.getContent(), metadata, links);
+    }
+
+    private EventQueryResult queryEventsByCursor(EventSearch search, String after, String before, Pageable pageable,
+                                                 EventLinks eventLinks, String ifNoneMatch, Account account) {
+        // 방향은 하나만, 둘 다 있으면 한쪽을 버리지 않고 400
+        if (after != null && before != null) {
+            Map<String, String> cursors = new HashMap<>();
+            cursors.put("after", after);
+            cursors.put("before", before);
+            Errors errors = new MapBindingResult(cursors, "eventSearch");
+            errors.rejectValue("before", "InvalidCursor", "After and before cannot be used together");
+            return EventQueryResult.invalid(errors);
+        }
+
+        // 커서는 id 로만 seek 하므로 다른 정렬은 무시하지 않고 400, (정렬 키, id) 복합 커서는 지원하지 않음 (index.adoc)
+        if (pageable.getSort().stream().anyMatch(order -> !order.getProperty().equals("id"))) {
+            Errors errors = new MapBindingResult(new HashMap<>(), "eventSearch");
+            errors.reject("UnsupportedSort", "Cursor paging supports sorting by id only");
+            return EventQueryResult.invalid(errors);
+        }
+
+        boolean forward = after != null;
+        String cursor = forward ? after : before;
+        Integer key = null;
+        if (!cursor.isEmpty()) {
+            Optional<Integer> optionalKey = EventCursor.decode(cursor);
+            if (optionalKey.isEmpty()) {
+                Errors errors = new MapBindingResult(new HashMap<>(Collections.singletonMap(forward ? "after" : "before", cursor)), "eventSearch");
+                errors.reject("InvalidCursor", "Cursor is wrong");
+                return EventQueryResult.invalid(errors);
+            }
+            key = optionalKey.get();
+        }
+
+        // id 기준 정렬만 지원, 커서 다음(또는 이전) 한 페이지 + 1건만 조회
+        Sort.Order order = pageable.getSort().getOrderFor("id");
+        boolean descending = order != null && order.isDescending();
+        boolean ascendingScan = forward != descending;
+        int size = pageable.getPageSize();
+        Pageable seek = PageRequest.of(0, size + 1, ascendingScan ? Sort.by("id").ascending() : Sort.by("id").descending());
+
+        Specification<Event> spec = EventSpecifications.matching(search);
+        List<Event> events;
+        if (key == null) {
+            events = new ArrayList<>(this.eventRepository.findList(spec, seek));
+        } else if (ascendingScan) {
+            events = new ArrayList<>(this.eventRepository.findList(spec.and(EventSpecifications.idGreaterThan(key)), seek));
+        } else {
+            events = new ArrayList<>(this.eventRepository.findList(spec.and(EventSpecifications.idLessThan(key)), seek));
+        }
+
+        // 다음 페이지 존재 여부(size + 1 번째)까지 포함해 계산
+        String eTag = EventETag.ofList(events, -1, listVariant(account));
+        if (EventETag.notModified(ifNoneMatch, eTag)) {
+            return EventQueryResult.of(eTag, null);
+        }
+
+        boolean hasMore = events.size() > size;
+        if (hasMore) {
+            events.remove(size);
+        }
+        if (!forward) {
+            Collections.reverse(events);
+        }
+
+        List<Resource<Event>> content = events.stream().map(e -> new EventResource(e, eventLinks)).collect(Collectors.toList());
+        Resources<Resource<Event>> resources = new Resources<>(content);
+        resources.add(cursorLink(eventLinks, search, forward ? "after" : "before", cursor, size, descending, Link.REL_SELF));
+        if (!events.isEmpty()) {
+            if (forward ? key != null : hasMore) {
+                resources.add(cursorLink(eventLinks, search, "before", EventCursor.encode(events.get(0).getId()), size, descending, Link.REL_PREVIOUS));
+            }
+            if (forward ? hasMore : key != null) {
+                resources.add(cursorLink(eventLinks, search, "after", EventCursor.encode(events.get(events.size() - 1).getId()), size, descending, Link.REL_NEXT));
+            }
+        }
+        addListLinks(resources, eventLinks, account);
+        return EventQueryResult.of(eTag, resources);
+    }
+
+    private Link cursorLink(EventLinks eventLinks, EventSearch search, String name, String cursor, int size, boolean descending, String rel) {
+        UriComponentsBuilder builder = search.addQueryParams(eventLinks.toUriComponentsBuilder())
+                .queryParam(name, cursor)
+                .queryParam("size", size);
+        if (descending) {
+            builder.queryParam("sort", "id,DESC");
+        }
+        return new Link(builder.toUriString(), rel);
+    }
+
+    private EventETag.Variant listVariant(Account account) {
+        return account == null ? EventETag.Variant.ANONYMOUS : EventETag.Variant.AUTHENTICATED;
+    }
+
+    private void addListLinks(ResourceSupport resources, EventLinks eventLinks, Account account) {
+        if (account != null) {
+            resources.add(eventLinks.createEvent());
+            resources.add(eventLinks.profile("resources-events-list-authentication"));
+        } else {
+            resources.add(eventLinks.profile("resource-events-list"));
+        }
+    }
+
+    // 이벤트가 없으면 empty
+    public Optional<EventQueryResult> getEvent(Integer id, String ifNoneMatch, EventLinks eventLinks, Account currentUser) {
+        // 조건부 요청은 version, 수정 일시만 조회해서 요청한 버전과 같으면 엔티티 로딩 없이 304
+        if (ifNoneMatch != null) {
+            Optional<EventVersion> optionalVersion = eventRepository.findVersionById(id);
+            if (optionalVersion.isEmpty()) {
+                return Optional.empty();
+            }
+
+            EventVersion version = optionalVersion.get();
+            String eTag = EventETag.of(id, version.getVersion(), variant(version.getManagerId(), currentUser));
+            if (EventETag.notModified(ifNoneMatch, eTag)) {
+                return Optional.of(EventQueryResult.of(eTag, EventETag.lastModified(version.getLastModifiedDateTime()), null));
+            }
+        }
+
+        Optional<Event> optionalEvent = eventRepository.findById(id);
+        if (optionalEvent.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Event event = optionalEvent.get();
+        String eTag = EventETag.of(id, event.getVersion(), variant(event.getManager() == null ? null : event.getManager().getId(), currentUser));
+
+        EventResource eventResource = new EventResource(event, eventLinks);
+        if (isManager(event, currentUser)) {
+            eventResource.add(eventLinks.updateEvent(event.getId()));
+            eventResource.add(eventLinks.profile("rresources-events-get-equals-user"));
+        }
+
+        if (currentUser != null && !isManager(event, currentUser)){
+            eventResource.add(eventLinks.profile("resources-events-get-authentication"));
+        }
+
+        if (currentUser == null){
+            eventResource.add(eventLinks.profile("resources-events-get"));
+        }
+        eventResource.add(eventLinks.queryEvents());
+        return Optional.of(EventQueryResult.of(eTag, EventETag.lastModified(event.getLastModifiedDateTime()), eventResource));
+    }
+
+    private EventETag.Variant variant(Integer managerId, Account account) {
+        if (account == null) {
+            return EventETag.Variant.ANONYMOUS;
+        }
+        return account.getId().equals(managerId) ? EventETag.Variant.MANAGER : EventETag.Variant.AUTHENTICATED;
+    }
+
+    // 매니저 프록시를 초기화하지 않도록 id 로 비교
+    private boolean isManager(Event event, Account account) {
+        return account != null && event.getManager() != null
+                && account.getId().equals(event.getManager().getId());
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.accounts.Account;
+import com.kyunghwan.demorestapi.accounts.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+// 이벤트 조회 (my-app.event-read-mode=sync, 기본값), 요청 스레드에서 실행
+@Controller
+@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_UTF8_VALUE)
+@ConditionalOnProperty(prefix = "my-app", name = "event-read-mode", havingValue = "sync", matchIfMissing = true)
+@RequiredArgsConstructor
+public class EventReadController {
+
+    private final EventQueryService eventQueryService;
+
+    @GetMapping(produces = {MediaTypes.HAL_JSON_UTF8_VALUE, MediaType.APPLICATION_JSON_UTF8_VALUE, EventRepresentation.SMILE_VALUE})
+    public ResponseEntity queryEvents(Pageable pageable,
+                                      PagedResourcesAssembler<Event> assembler,
+                                      EventSearch search,
+                                      @RequestParam(required = false) String q,
+                                      @RequestParam(required = false) String after,
+                                      @RequestParam(required = false) String before,
+                                      @RequestParam(defaultValue = "EXACT") EventCountMode count,
+                                      @RequestParam(required = false) String fields,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                      @CurrentUser Account account) {
+        EventQueryResult result = this.eventQueryService.queryEvents(pageable, assembler, search, q, after, before, count, fields,
+                EventRepresentation.of(accept), EventLinks.current(), ifNoneMatch, account);
+        // 같은 URI 라도 Accept 에 따라 HAL, 링크 없는 JSON, Smile 로 응답
+        return EventResponses.of(result, HttpHeaders.ACCEPT);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity getEvent(@PathVariable Integer id,
+                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                   @CurrentUser Account currentUser) {
+        return this.eventQueryService.getEvent(id, ifNoneMatch, EventLinks.current(), currentUser)
+                // 관리자, 인증 사용자, 익명 사용자마다 링크와 ETag 가 다르므로 Authorization 에 따라 캐시
+                .map(result -> EventResponses.of(result, HttpHeaders.AUTHORIZATION))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+}
@@ -1,6 +1,26 @@
 package com.kyunghwan.demorestapi.events;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface EventRepository extends JpaRepository<Event, Integer>, JpaSpecificationExecutor<Event>,
+        EventRepositoryCustom {
+
+    // 엔티티를 로딩하지 않고 ETag, Last-Modified 계산
+    @Query("select e.version as version, e.lastModifiedDateTime as lastModifiedDateTime, m.id as managerId " +
+            "from Event e left join e.manager m where e.id = :id")
+    Optional<EventVersion> findVersionById(Integer id);
+
+    // PostgreSQL 전문 검색, search_vector GIN 인덱스 사용 (event-search-postgresql.sql)
+    @Query(value = "select e.* from event e, websearch_to_tsquery('simple', :query) q " +
+            "where e.search_vector @@ q order by ts_rank(e.search_vector, q) desc, e.id",
+            countQuery = "select count(*) from event e where e.search_vector @@ websearch_to_tsquery('simple', :query)",
+            nativeQuery = true)
+    Page<Event> searchFullText(String query, Pageable pageable);
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
 }
@@ -0,0 +1,26 @@
+package com.kyunghwan.demorestapi.events;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.Tuple;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface EventRepositoryCustom {
+
+    // forward-only 커서로 id 순서대로 조회, 조건이 null 이면 필터하지 않음
+    void scrollAll(EventStatus status, LocalDateTime from, LocalDateTime to, int fetchSize, Consumer<Event> consumer);
+
+    // 다음 페이지 존재 여부만 확인, count 쿼리 없음
+    Slice<Event> findSlice(Specification<Event> spec, Pageable pageable);
+
+    // keyset(seek) 조회, offset 과 size 만큼만 조회하고 count 쿼리 없음
+    List<Event> findList(Specification<Event> spec, Pageable pageable);
+
+    // 선택한 컬럼만 조회, 다음 페이지 존재 여부만 확인
+    Slice<Tuple> findSlice(Specification<Event> spec, Pageable pageable, List<String> selection);
+
+}
@@ -0,0 +1,125 @@
+package com.kyunghwan.demorestapi.events;
+
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.function.Consumer;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void scrollAll(EventStatus status, LocalDateTime from, LocalDateTime to, int fetchSize, Consumer<Event> consumer) {
+        Session session = entityManager.unwrap(Session.class);
+        CriteriaBuilder builder = session.getCriteriaBuilder();
+        CriteriaQuery<Event> criteria = builder.createQuery(Event.class);
+        Root<Event> event = criteria.from(Event.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null) {
+            predicates.add(builder.equal(event.get("eventStatus"), status));
+        }
+        if (from != null) {
+            predicates.add(builder.greaterThanOrEqualTo(event.get("beginEventDateTime"), from));
+        }
+        if (to != null) {
+            predicates.add(builder.lessThan(event.get("beginEventDateTime"), to));
+        }
+        criteria.where(predicates.toArray(new Predicate[0]))
+                .orderBy(builder.asc(event.get("id")));
+
+        // 읽기 전용, 2차 캐시를 채우지 않고, 처리한 엔티티는 바로 분리해 메모리 사용량 일정하게 유지
+        try (ScrollableResults results = session.createQuery(criteria)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                Event row = (Event) results.get(0);
+                consumer.accept(row);
+                session.detach(row);
+            }
+        }
+    }
+
+    @Override
+    public Slice<Event> findSlice(Specification<Event> spec, Pageable pageable) {
+        // 한 건 더 조회해서 다음 페이지 존재 여부 확인
+        List<Event> content = query(spec, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<Event> findList(Specification<Event> spec, Pageable pageable) {
+        return query(spec, pageable, pageable.getPageSize());
+    }
+
+    @Override
+    public Slice<Tuple> findSlice(Specification<Event> spec, Pageable pageable, List<String> selection) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = builder.createTupleQuery();
+        Root<Event> event = criteria.from(Event.class);
+        List<Selection<?>> selections = selection.stream()
+                .map(name -> event.get(name).alias(name))
+                .collect(Collectors.toList());
+        criteria.multiselect(selections);
+        Predicate predicate = spec.toPredicate(event, criteria, builder);
+        if (predicate != null) {
+            criteria.where(predicate);
+        }
+        criteria.orderBy(toOrders(pageable.getSort(), event, builder));
+
+        // 엔티티를 만들지 않으므로 영속성 컨텍스트, 2차 캐시를 거치지 않는다
+        List<Tuple> content = entityManager.createQuery(criteria)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private List<Event> query(Specification<Event> spec, Pageable pageable, int maxResults) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> criteria = builder.createQuery(Event.class);
+        Root<Event> event = criteria.from(Event.class);
+        Predicate predicate = spec.toPredicate(event, criteria, builder);
+        if (predicate != null) {
+            criteria.where(predicate);
+        }
+        criteria.orderBy(toOrders(pageable.getSort(), event, builder));
+        return entityManager.createQuery(criteria)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+}
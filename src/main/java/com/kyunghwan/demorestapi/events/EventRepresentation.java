@@ -0,0 +1,60 @@
+package com.kyunghwan.demorestapi.events;
+
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+// 이벤트 목록 응답 표현, Accept 헤더로 선택
+public enum EventRepresentation {
+
+    HAL(MediaTypes.HAL_JSON_UTF8),
+    // 링크 없는 JSON
+    JSON(MediaType.APPLICATION_JSON_UTF8),
+    // 링크 없는 바이너리 JSON (서비스 간 호출용)
+    SMILE(MediaType.valueOf(EventRepresentation.SMILE_VALUE));
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private final MediaType mediaType;
+
+    EventRepresentation(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public boolean isCompact() {
+        return this != HAL;
+    }
+
+    // 구체적이고 q 가 높은 타입부터, 같으면 HAL 우선. Accept 가 없거나 잘못되면 HAL
+    public static EventRepresentation of(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return HAL;
+        }
+
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return HAL;
+        }
+        MediaType.sortBySpecificityAndQuality(acceptedTypes);
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.getQualityValue() == 0) {
+                continue;
+            }
+            for (EventRepresentation representation : values()) {
+                if (acceptedType.isCompatibleWith(representation.mediaType)) {
+                    return representation;
+                }
+            }
+        }
+        return HAL;
+    }
+
+}
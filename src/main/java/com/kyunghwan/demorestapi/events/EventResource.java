@@ -3,14 +3,16 @@ package com.kyunghwan.demorestapi.events;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 public class EventResource extends Resource<Event> {
 
     public EventResource(Event event, Link... links) {
+        this(event, EventLinks.current(), links);
+    }
+
+    public EventResource(Event event, EventLinks eventLinks, Link... links) {
         super(event, links);
         // Add self_link
-        add(linkTo(EventController.class).slash(event.getId()).withSelfRel());
+        add(eventLinks.self(event.getId()));
     }
 
 }
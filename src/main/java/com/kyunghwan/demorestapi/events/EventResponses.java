@@ -0,0 +1,32 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.common.ErrorsResource;
+import org.springframework.http.ResponseEntity;
+
+// 이벤트 조회 결과를 응답으로 변환 (EventReadController, AsyncEventReadController)
+// 304 는 ResponseEntity 의 ETag, Last-Modified 로 Spring MVC 가 요청(async dispatch) 스레드에서 처리
+final class EventResponses {
+
+    private EventResponses() {
+    }
+
+    static ResponseEntity of(EventQueryResult result, String... varyBy) {
+        ResponseEntity.BodyBuilder builder = result.getErrors() != null ? ResponseEntity.badRequest() : ResponseEntity.ok();
+        if (varyBy.length > 0) {
+            builder.varyBy(varyBy);
+        }
+        if (result.getErrors() != null) {
+            return builder.body(new ErrorsResource(result.getErrors()));
+        }
+
+        builder.eTag(result.getETag());
+        if (result.getLastModified() >= 0) {
+            builder.lastModified(result.getLastModified());
+        }
+        if (result.getContentType() != null) {
+            builder.contentType(result.getContentType());
+        }
+        return result.getBody() == null ? builder.build() : builder.body(result.getBody());
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.kyunghwan.demorestapi.events;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.LocalDateTime;
+
+// 이벤트 목록 조회 필터, null 인 조건은 필터하지 않음
+@Data
+public class EventSearch {
+
+    private EventStatus status;
+    private Boolean free;
+    private Boolean offline;
+    private Integer priceFrom; // 요금 하한 (포함), 최고 요금이 하한 이상
+    private Integer priceTo; // 요금 상한 (포함), 기본 요금이 상한 이하
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentFrom; // 등록 시작 일시 하한 (포함)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentTo; // 등록 시작 일시 상한 (미포함)
+    private String location; // 부분 일치, 대소문자 무시
+
+    public boolean isEmpty() {
+        return status == null && free == null && offline == null
+                && priceFrom == null && priceTo == null
+                && enrollmentFrom == null && enrollmentTo == null
+                && (location == null || location.isBlank());
+    }
+
+    // 페이지, 커서 링크에 같은 필터 유지
+    public UriComponentsBuilder addQueryParams(UriComponentsBuilder builder) {
+        addQueryParam(builder, "status", status);
+        addQueryParam(builder, "free", free);
+        addQueryParam(builder, "offline", offline);
+        addQueryParam(builder, "priceFrom", priceFrom);
+        addQueryParam(builder, "priceTo", priceTo);
+        addQueryParam(builder, "enrollmentFrom", enrollmentFrom);
+        addQueryParam(builder, "enrollmentTo", enrollmentTo);
+        addQueryParam(builder, "location", location);
+        return builder;
+    }
+
+    private void addQueryParam(UriComponentsBuilder builder, String name, Object value) {
+        // 빈 장소는 필터하지 않으므로 링크에도 넣지 않음
+        if (value != null && !(value instanceof String && ((String) value).isBlank())) {
+            builder.queryParam(name, value);
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.kyunghwan.demorestapi.events;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+// 이벤트 이름, 설명, 장소 전문 검색
+// 모든 검색어가 포함된 이벤트를 관련도 순(같으면 id 순)으로 조회
+public interface EventSearchIndex {
+
+    Page<Event> search(String query, Pageable pageable);
+
+    // 인덱스를 직접 관리하는 구현만 사용 (EventEntityListener)
+    default void index(Event event) {
+    }
+
+    default void remove(Event event) {
+    }
+
+}
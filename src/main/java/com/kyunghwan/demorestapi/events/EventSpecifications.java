@@ -0,0 +1,61 @@
+package com.kyunghwan.demorestapi.events;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 이벤트 목록 조회 조건
+// 상태, 무료/오프라인 조건은 등록 시작 일시와 함께 Event 의 복합 인덱스를 사용
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> matching(EventSearch search) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (search.getStatus() != null) {
+                predicates.add(builder.equal(root.get("eventStatus"), search.getStatus()));
+            }
+            if (search.getFree() != null) {
+                predicates.add(builder.equal(root.get("free"), search.getFree()));
+            }
+            if (search.getOffline() != null) {
+                predicates.add(builder.equal(root.get("offline"), search.getOffline()));
+            }
+            if (search.getEnrollmentFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("beginEnrollmentDateTime"), search.getEnrollmentFrom()));
+            }
+            if (search.getEnrollmentTo() != null) {
+                predicates.add(builder.lessThan(root.get("beginEnrollmentDateTime"), search.getEnrollmentTo()));
+            }
+            // 요금 범위 [basePrice, maxPrice] 가 조건 범위와 겹치는 이벤트, maxPrice 0 은 상한 없음 (무료 이벤트는 0 ~ 0)
+            if (search.getPriceFrom() != null) {
+                predicates.add(builder.or(
+                        builder.greaterThanOrEqualTo(root.get("maxPrice"), search.getPriceFrom()),
+                        builder.and(builder.equal(root.get("maxPrice"), 0), builder.greaterThan(root.get("basePrice"), 0))));
+            }
+            if (search.getPriceTo() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("basePrice"), search.getPriceTo()));
+            }
+            if (search.getLocation() != null && !search.getLocation().isBlank()) {
+                String pattern = "%" + search.getLocation().trim().toLowerCase(Locale.ROOT)
+                        .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+                predicates.add(builder.like(builder.lower(root.get("location")), pattern, '\\'));
+            }
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Event> idGreaterThan(Integer id) {
+        return (root, query, builder) -> builder.greaterThan(root.get("id"), id);
+    }
+
+    public static Specification<Event> idLessThan(Integer id) {
+        return (root, query, builder) -> builder.lessThan(root.get("id"), id);
+    }
+
+}
@@ -4,33 +4,76 @@ import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
 
 @Component
 public class EventValidator {
 
+    private static final Set<String> PRICE_FIELDS = Set.of("basePrice", "maxPrice");
+
+    private static final Set<String> END_EVENT_FIELDS = Set.of("endEventDateTime",
+            "beginEnrollmentDateTime", "closeEnrollmentDateTime", "beginEventDateTime");
+
+    private static final Set<String> BEGIN_EVENT_FIELDS = Set.of("beginEventDateTime",
+            "beginEnrollmentDateTime", "closeEnrollmentDateTime");
+
+    private static final Set<String> CLOSE_ENROLLMENT_FIELDS = Set.of("closeEnrollmentDateTime",
+            "beginEnrollmentDateTime");
+
     public void validate(EventDto eventDto, Errors errors){
         if (eventDto.getBasePrice() > eventDto.getMaxPrice() && eventDto.getMaxPrice() != 0){
             errors.reject("WrongPrices", "Value for prices are wrong");
         }
+        validateEndEventDateTime(eventDto, errors);
+        validateBeginEventDateTime(eventDto, errors);
+        validateCloseEnrollmentDateTime(eventDto, errors);
+    }
+
+    // PATCH, 변경된 필드가 포함된 필드 간 제약만 다시 검증
+    public void validate(EventDto eventDto, Errors errors, Collection<String> changedFields) {
+        if (intersects(PRICE_FIELDS, changedFields)
+                && eventDto.getBasePrice() > eventDto.getMaxPrice() && eventDto.getMaxPrice() != 0) {
+            errors.reject("WrongPrices", "Value for prices are wrong");
+        }
+        if (intersects(END_EVENT_FIELDS, changedFields)) {
+            validateEndEventDateTime(eventDto, errors);
+        }
+        if (intersects(BEGIN_EVENT_FIELDS, changedFields)) {
+            validateBeginEventDateTime(eventDto, errors);
+        }
+        if (intersects(CLOSE_ENROLLMENT_FIELDS, changedFields)) {
+            validateCloseEnrollmentDateTime(eventDto, errors);
+        }
+    }
 
+    private void validateEndEventDateTime(EventDto eventDto, Errors errors) {
         LocalDateTime endEventDateTime = eventDto.getEndEventDateTime();
         if (endEventDateTime.isBefore(eventDto.getBeginEnrollmentDateTime()) ||
             endEventDateTime.isBefore(eventDto.getCloseEnrollmentDateTime()) ||
             endEventDateTime.isBefore(eventDto.getBeginEventDateTime())) {
             errors.rejectValue("endEventDateTime", "wrongValue", "EndEventDateTime is Wrong");
         }
+    }
 
-        // TODO BeginEventDateTime
+    // TODO BeginEventDateTime
+    private void validateBeginEventDateTime(EventDto eventDto, Errors errors) {
         LocalDateTime beginEventDateTime = eventDto.getBeginEventDateTime();
         if (beginEventDateTime.isBefore(eventDto.getBeginEnrollmentDateTime()) ||
             beginEventDateTime.isBefore(eventDto.getCloseEnrollmentDateTime())) {
             errors.rejectValue("beginEventDateTime", "wrongValue", "BeginEventDateTime is Wrong");
         }
+    }
 
-        // TODO ClosedEnrollmentDateTime
+    // TODO ClosedEnrollmentDateTime
+    private void validateCloseEnrollmentDateTime(EventDto eventDto, Errors errors) {
         LocalDateTime closeEnrollmentDateTime = eventDto.getCloseEnrollmentDateTime();
         if (closeEnrollmentDateTime.isBefore(eventDto.getBeginEnrollmentDateTime())) {
             errors.rejectValue("closeEnrollmentDateTime", "wrongValue", "CloseEnrollmentDateTime is Wrong");
         }
     }
+
+    private boolean intersects(Set<String> fields, Collection<String> changedFields) {
+        return changedFields.stream().anyMatch(fields::contains);
+    }
 }
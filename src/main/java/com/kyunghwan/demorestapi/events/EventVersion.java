@@ -0,0 +1,14 @@
+package com.kyunghwan.demorestapi.events;
+
+import java.time.LocalDateTime;
+
+// 조건부 조회에 필요한 값만 조회하는 projection
+public interface EventVersion {
+
+    Long getVersion();
+
+    LocalDateTime getLastModifiedDateTime();
+
+    Integer getManagerId();
+
+}
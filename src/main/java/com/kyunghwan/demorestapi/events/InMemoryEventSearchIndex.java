@@ -0,0 +1,125 @@
+package com.kyunghwan.demorestapi.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// H2(테스트 프로파일)용 JVM 메모리 역색인
+// PostgreSQL 의 'simple' 설정, ts_rank 기본 가중치(A=1.0, B=0.4, C=0.2)와 같은 방식으로 토큰화, 순위 계산
+// 시작 시 DB 의 이벤트로 만들고, 이후 엔티티 저장, 삭제 시 EventEntityListener 로 갱신
+// 벌크 쿼리로 변경된 이벤트는 다시 만들 때(rebuild)까지 반영되지 않음
+@RequiredArgsConstructor
+public class InMemoryEventSearchIndex implements EventSearchIndex {
+
+    private static final float NAME_WEIGHT = 1.0f;
+
+    private static final float DESCRIPTION_WEIGHT = 0.4f;
+
+    private static final float LOCATION_WEIGHT = 0.2f;
+
+    private final EventRepository eventRepository;
+
+    // 토큰 -> (이벤트 id -> 점수)
+    private final Map<String, Map<Integer, Float>> postings = new ConcurrentHashMap<>();
+
+    // 이벤트 id -> 토큰, 수정, 삭제 시 이전 토큰 제거용
+    private final Map<Integer, Set<String>> documents = new ConcurrentHashMap<>();
+
+    // 재시작 전, 또는 리스너 없이 저장된 이벤트도 검색되도록 전체 이벤트로 다시 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        postings.clear();
+        documents.clear();
+        eventRepository.findAll().forEach(this::index);
+    }
+
+    @Override
+    public synchronized void index(Event event) {
+        remove(event);
+        Map<String, Float> scores = new HashMap<>();
+        addTokens(scores, event.getName(), NAME_WEIGHT);
+        addTokens(scores, event.getDescription(), DESCRIPTION_WEIGHT);
+        addTokens(scores, event.getLocation(), LOCATION_WEIGHT);
+        scores.forEach((token, score) -> postings.computeIfAbsent(token, t -> new ConcurrentHashMap<>()).put(event.getId(), score));
+        documents.put(event.getId(), scores.keySet());
+    }
+
+    @Override
+    public synchronized void remove(Event event) {
+        Set<String> tokens = documents.remove(event.getId());
+        if (tokens == null) {
+            return;
+        }
+        tokens.forEach(token -> postings.computeIfPresent(token, (t, ids) -> {
+            ids.remove(event.getId());
+            return ids.isEmpty() ? null : ids;
+        }));
+    }
+
+    @Override
+    public Page<Event> search(String query, Pageable pageable) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+
+        // 모든 검색어가 포함된 이벤트만, 점수는 검색어별 점수의 합
+        Map<Integer, Float> ranks = null;
+        for (String token : tokens) {
+            Map<Integer, Float> ids = postings.getOrDefault(token, Collections.emptyMap());
+            if (ranks == null) {
+                ranks = new HashMap<>(ids);
+            } else {
+                ranks.keySet().retainAll(ids.keySet());
+                ranks.replaceAll((id, rank) -> rank + ids.getOrDefault(id, 0f));
+            }
+        }
+
+        List<Integer> ranked = ranks.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Float>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Integer> pageIds = ranked.subList(from, to);
+
+        // 한 번의 in 쿼리로 조회 후 순위대로 정렬
+        Map<Integer, Event> events = eventRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<Event> content = pageIds.stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+
+    private void addTokens(Map<String, Float> scores, String text, float weight) {
+        tokenize(text).forEach(token -> scores.merge(token, weight, Float::sum));
+    }
+
+    private List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.kyunghwan.demorestapi.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+// PostgreSQL 전문 검색, search_vector 는 DB 가 계산하는 generated 컬럼이라 애플리케이션에서 갱신하지 않음
+// generated 컬럼(stored)은 PostgreSQL 12 이상
+@RequiredArgsConstructor
+public class PostgresEventSearchIndex implements EventSearchIndex, InitializingBean {
+
+    private final EventRepository eventRepository;
+
+    private final DataSource dataSource;
+
+    private static final int MIN_MAJOR_VERSION = 12;
+
+    // Hibernate 가 event 테이블을 만든 뒤(EventRepository 생성 후) 컬럼, GIN 인덱스 추가
+    @Override
+    public void afterPropertiesSet() throws MetaDataAccessException {
+        int majorVersion = (Integer) JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseMajorVersion);
+        if (majorVersion < MIN_MAJOR_VERSION) {
+            throw new IllegalStateException("my-app.event-search-mode=postgresql requires PostgreSQL " + MIN_MAJOR_VERSION
+                    + " or later (generated columns), but the server is " + majorVersion + ". Use my-app.event-search-mode=memory instead");
+        }
+        new ResourceDatabasePopulator(new ClassPathResource("event-search-postgresql.sql")).execute(dataSource);
+    }
+
+    @Override
+    public Page<Event> search(String query, Pageable pageable) {
+        // 관련도 순으로만 정렬
+        return eventRepository.searchFullText(query, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+}
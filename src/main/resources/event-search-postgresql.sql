@@ -0,0 +1,8 @@
+-- 이벤트 전문 검색 (PostgresEventSearchIndex), 이름 > 설명 > 장소 순으로 가중치
+alter table event add column if not exists search_vector tsvector generated always as (
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(location, '')), 'C')
+) stored;
+
+create index if not exists event_search_vector_idx on event using gin (search_vector);
@@ -0,0 +1,31 @@
+-- OAuth2 토큰 저장소 (ExpiringJdbcTokenStore), PostgreSQL / H2 공용
+create table if not exists oauth_access_token (
+    token_id          varchar(256) primary key,
+    token             bytea,
+    authentication_id varchar(256),
+    user_name         varchar(256),
+    client_id         varchar(256),
+    authentication    bytea,
+    refresh_token     varchar(256),
+    expiration        timestamp
+);
+
+create index if not exists oauth_access_token_authentication_id_idx on oauth_access_token (authentication_id);
+create index if not exists oauth_access_token_user_name_client_id_idx on oauth_access_token (user_name, client_id);
+create index if not exists oauth_access_token_client_id_idx on oauth_access_token (client_id);
+create index if not exists oauth_access_token_refresh_token_idx on oauth_access_token (refresh_token);
+create index if not exists oauth_access_token_expiration_idx on oauth_access_token (expiration);
+
+create table if not exists oauth_refresh_token (
+    token_id       varchar(256) primary key,
+    token          bytea,
+    authentication bytea,
+    expiration     timestamp
+);
+
+create index if not exists oauth_refresh_token_expiration_idx on oauth_refresh_token (expiration);
+
+-- Event, Account id 시퀀스 (PooledSequenceGenerator), increment 는 my-app.id-allocation-size 와 같아야 함
+-- 다르면 IdSequenceValidator 가 시작을 막는다, 할당 크기를 바꾸면 alter sequence ... increment by 로 함께 변경
+create sequence if not exists event_seq start with 1 increment by 50;
+create sequence if not exists account_seq start with 1 increment by 50;
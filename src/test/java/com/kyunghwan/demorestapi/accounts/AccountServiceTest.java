@@ -8,9 +8,14 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -34,6 +39,15 @@ public class AccountServiceTest {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AuthenticationManager authenticationManager;
+
     @Test
     public void findByUsername() {
         // Given
@@ -56,6 +70,127 @@ public class AccountServiceTest {
         assertThat(this.passwordEncoder.matches(password, userDetails.getPassword())).isTrue();
     }
 
+    @Test
+    @Description("조회한 계정은 캐시되고, 계정을 저장하면 캐시에서 제거")
+    public void findByUsernameCached() {
+        // Given
+        String username = "cached@gmail.com";
+        Account account = Account.builder()
+                .email(username)
+                .password("cached")
+                .roles(Set.of(AccountRole.USER))
+                .build();
+        this.accountService.saveAccount(account);
+        Cache accounts = this.cacheManager.getCache("accounts");
+
+        // When
+        this.accountService.loadUserByUsername(username);
+
+        // Then
+        assertThat(accounts.get(username)).isNotNull();
+
+        // When, 비밀번호와 권한 변경
+        account.setRoles(Set.of(AccountRole.ADMIN, AccountRole.USER));
+        account.setPassword("cached");
+        this.accountService.saveAccount(account);
+
+        // Then
+        assertThat(accounts.get(username)).isNull();
+        assertThat(this.accountService.loadUserByUsername(username).getAuthorities()).hasSize(2);
+    }
+
+    @Test
+    @Description("비밀번호는 그대로 두고 권한만 바꿔도 캐시에서 제거")
+    public void rolesOnlyChangeEvictsCachedAccount() {
+        // Given
+        String username = "roles@gmail.com";
+        String password = "roles";
+        this.accountService.saveAccount(Account.builder()
+                .email(username)
+                .password(password)
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        Cache accounts = this.cacheManager.getCache("accounts");
+        String cachedPassword = this.accountService.loadUserByUsername(username).getPassword();
+        assertThat(accounts.get(username)).isNotNull();
+
+        // When, 권한만 변경
+        this.accountService.updateRoles(username, Set.of(AccountRole.ADMIN, AccountRole.USER));
+
+        // Then
+        assertThat(accounts.get(username)).isNull();
+        UserDetails userDetails = this.accountService.loadUserByUsername(username);
+        assertThat(userDetails.getAuthorities()).hasSize(2);
+        assertThat(userDetails.getPassword()).isEqualTo(cachedPassword);
+        assertThat(this.passwordEncoder.matches(password, userDetails.getPassword())).isTrue();
+    }
+
+    @Test
+    @Description("캐시에는 엔티티 대신 스냅샷을 보관하고, 리포지토리로 email 을 바꾸거나 삭제해도 캐시에서 제거")
+    public void accountSnapshotEvictedOnRepositoryWrites() {
+        // Given
+        String username = "snapshot@gmail.com";
+        Account account = this.accountService.saveAccount(Account.builder()
+                .email(username)
+                .password("snapshot")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        Cache accounts = this.cacheManager.getCache("accounts");
+        Account loaded = ((AccountAdapter) this.accountService.loadUserByUsername(username)).getAccount();
+
+        // When, 호출자가 받은 Account 를 바꿔도 캐시는 그대로
+        loaded.getRoles().add(AccountRole.ADMIN);
+
+        // Then
+        assertThat(accounts.get(username, AccountSnapshot.class).getRoles()).containsExactly(AccountRole.USER);
+        assertThat(((AccountAdapter) this.accountService.loadUserByUsername(username)).getAccount()).isNotSameAs(loaded);
+
+        // When, 서비스를 거치지 않고 email 변경
+        Account stored = this.accountRepository.findById(account.getId()).orElseThrow();
+        stored.setEmail("renamed-" + username);
+        this.accountRepository.save(stored);
+
+        // Then, 이전 email 도 제거
+        assertThat(accounts.get(username)).isNull();
+        try {
+            this.accountService.loadUserByUsername(username);
+            fail("renamed account must not be found by the old email");
+        } catch (UsernameNotFoundException e) {
+            assertThat(e.getMessage()).isEqualTo(username);
+        }
+
+        // When, 삭제
+        this.accountService.loadUserByUsername("renamed-" + username);
+        this.accountRepository.deleteById(account.getId());
+
+        // Then
+        assertThat(accounts.get("renamed-" + username)).isNull();
+    }
+
+    @Test
+    @Description("이전 비용으로 저장된 해시는 로그인 시 현재 설정으로 재인코딩")
+    public void rehashOnLogin() {
+        // Given
+        String username = "rehash@gmail.com";
+        String password = "rehash";
+        Account account = Account.builder()
+                .email(username)
+                .password("{bcrypt}" + new BCryptPasswordEncoder(4).encode(password))
+                .roles(Set.of(AccountRole.USER))
+                .build();
+        this.accountRepository.save(account);
+        assertThat(this.passwordEncoder.upgradeEncoding(account.getPassword())).isTrue();
+
+        // When
+        this.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
+
+        // Then
+        String rehashed = this.accountService.loadUserByUsername(username).getPassword();
+        assertThat(rehashed).startsWith("{bcrypt}$2a$10$");
+        assertThat(this.passwordEncoder.upgradeEncoding(rehashed)).isFalse();
+        assertThat(this.passwordEncoder.matches(password, rehashed)).isTrue();
+    }
+
     @Test(expected = UsernameNotFoundException.class)
     @Description("유저가 없는 경우 예외 발생 방법1 - expected")
     public void findByUsernameFail1() {
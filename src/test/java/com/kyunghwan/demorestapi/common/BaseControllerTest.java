@@ -1,6 +1,7 @@
 package com.kyunghwan.demorestapi.common;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.runner.RunWith;
 import org.modelmapper.ModelMapper;
@@ -9,10 +10,17 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 
+import javax.cache.CacheManager;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
 @RunWith(SpringRunner.class)
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -31,4 +39,29 @@ public class BaseControllerTest {
     @Autowired
     protected ModelMapper modelMapper;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    // 테스트 컨텍스트들이 같은 JCache CacheManager (ehcache.xml URI 기준) 를 공유하므로
+    // DB 가 다른 컨텍스트에서 남긴 같은 id 의 캐시 항목을 비운다
+    @Before
+    public void clearCaches() {
+        this.cacheManager.getCacheNames().forEach(name -> this.cacheManager.getCache(name).clear());
+    }
+
+    // password grant 로 발급한 access token
+    protected String getAccessToken(String username, String password) throws Exception {
+        String response = this.mockMvc.perform(post("/oauth/token")
+                        .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                        .param("username", username)
+                        .param("password", password)
+                        .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return new Jackson2JsonParser().parseMap(response).get("access_token").toString();
+    }
+
 }
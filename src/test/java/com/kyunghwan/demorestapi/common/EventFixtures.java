@@ -0,0 +1,32 @@
+package com.kyunghwan.demorestapi.common;
+
+import com.kyunghwan.demorestapi.events.Event;
+import com.kyunghwan.demorestapi.events.EventStatus;
+
+import java.time.LocalDateTime;
+
+// 테스트에서 저장, 조회할 이벤트 (유료, 오프라인, DRAFT)
+public final class EventFixtures {
+
+    private EventFixtures() {
+    }
+
+    public static Event event(int index) {
+        return Event.builder()
+                .name("event " + index)
+                .description("test event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2019, 9, 19, 13, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2019, 9, 20, 13, 0))
+                .beginEventDateTime(LocalDateTime.of(2019, 9, 21, 13, 0))
+                .endEventDateTime(LocalDateTime.of(2019, 9, 22, 13, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("경성대학교 건학기념관")
+                .free(false)
+                .offline(true)
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+    }
+
+}
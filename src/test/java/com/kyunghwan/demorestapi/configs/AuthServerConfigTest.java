@@ -1,6 +1,7 @@
 package com.kyunghwan.demorestapi.configs;
 
 import com.kyunghwan.demorestapi.accounts.Account;
+import com.kyunghwan.demorestapi.accounts.AccountRepository;
 import com.kyunghwan.demorestapi.accounts.AccountRole;
 import com.kyunghwan.demorestapi.accounts.AccountService;
 import com.kyunghwan.demorestapi.common.AppProperties;
@@ -22,12 +23,25 @@ public class AuthServerConfigTest extends BaseControllerTest {
     @Autowired
     AccountService accountService;
 
+    @Autowired
+    AccountRepository accountRepository;
+
     @Autowired
     AppProperties appProperties;
 
     @Test
     @TestDescription("인증 토큰을 발급 받는 테스트")
     public void getAuthToken() throws Exception {
+        // Given, 같은 컨텍스트의 다른 테스트가 계정을 지웠을 수 있으므로 없으면 생성
+        if (this.accountRepository.findByEmail(appProperties.getUserUsername()).isEmpty()) {
+            this.accountService.saveAccount(Account.builder()
+                    .email(appProperties.getUserUsername())
+                    .password(appProperties.getUserPassword())
+                    .roles(Set.of(AccountRole.USER))
+                    .build());
+        }
+
+        // When & Then
         this.mockMvc.perform(post("/oauth/token")
                         .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
                         .param("username", appProperties.getUserUsername())
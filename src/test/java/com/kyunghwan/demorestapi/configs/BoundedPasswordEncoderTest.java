@@ -0,0 +1,121 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.kyunghwan.demorestapi.common.TestDescription;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, 5000, meterRegistry);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @TestDescription("전용 풀에서 비밀번호를 검증하는 테스트")
+    public void matches() {
+        release.countDown();
+
+        assertThat(passwordEncoder.matches("password", "password")).isTrue();
+        assertThat(passwordEncoder.encode("password")).isEqualTo("password");
+        assertThat(meterRegistry.get("password.encoder.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @TestDescription("큐가 가득 차면 대기하지 않고 실패하는 테스트")
+    public void failFastWhenQueueIsFull() throws Exception {
+        // Given, 실행 중 1개 + 대기 1개
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("a", "a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("b", "b"));
+        while (meterRegistry.get("password.encoder.queue.size").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> passwordEncoder.matches("c", "c"))
+                .isInstanceOf(PasswordEncoderBusyException.class);
+        assertThat(meterRegistry.get("password.encoder.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @TestDescription("스레드 하나로 연속 호출하면 앞 작업이 끝난 뒤 큐에 들어가므로 거절되지 않는 테스트")
+    public void sequentialCallsAreNotRejected() {
+        release.countDown();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(passwordEncoder.matches("password", "password")).isTrue();
+        }
+        assertThat(meterRegistry.get("password.encoder.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    @TestDescription("제한 시간 안에 끝나지 않으면 요청 스레드를 반환하고 실패하는 테스트")
+    public void failWhenTimedOut() throws Exception {
+        // Given, 해시 계산이 끝나지 않는 인코더
+        BoundedPasswordEncoder timedPasswordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, 100, meterRegistry);
+        try {
+            // When & Then
+            assertThatThrownBy(() -> timedPasswordEncoder.matches("a", "a"))
+                    .isInstanceOf(PasswordEncoderBusyException.class);
+            assertThat(meterRegistry.get("password.encoder.timeout").counter().count()).isEqualTo(1);
+        } finally {
+            timedPasswordEncoder.destroy();
+        }
+    }
+
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return rawPassword.toString().equals(encodedPassword);
+        }
+
+        private void await() {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.kyunghwan.demorestapi.accounts.Account;
+import com.kyunghwan.demorestapi.accounts.AccountAdapter;
+import com.kyunghwan.demorestapi.accounts.AccountRole;
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ExpiringJdbcTokenStoreTest {
+
+    @Autowired
+    ExpiringJdbcTokenStore tokenStore;
+
+    @Test
+    @TestDescription("저장한 토큰의 인증 정보를 다시 읽는 테스트")
+    public void readAuthentication() {
+        // Given
+        DefaultOAuth2AccessToken token = token(60_000);
+        this.tokenStore.storeAccessToken(token, authentication());
+
+        // When
+        OAuth2Authentication authentication = this.tokenStore.readAuthentication(token.getValue());
+
+        // Then
+        assertThat(authentication.getPrincipal()).isInstanceOf(AccountAdapter.class);
+        assertThat(((AccountAdapter) authentication.getPrincipal()).getAccount().getId()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("만료된 토큰만 삭제하는 테스트")
+    public void purgeExpiredTokens() {
+        // Given
+        DefaultOAuth2AccessToken expired = token(-60_000);
+        DefaultOAuth2AccessToken valid = token(60_000);
+        this.tokenStore.storeAccessToken(expired, authentication());
+        this.tokenStore.storeAccessToken(valid, authentication());
+
+        // When
+        int purged = this.tokenStore.purgeExpiredTokens();
+
+        // Then
+        assertThat(purged).isGreaterThanOrEqualTo(1);
+        assertThat(this.tokenStore.readAccessToken(expired.getValue())).isNull();
+        assertThat(this.tokenStore.readAccessToken(valid.getValue())).isNotNull();
+    }
+
+    private DefaultOAuth2AccessToken token(long expiresIn) {
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(UUID.randomUUID().toString());
+        token.setExpiration(new Date(System.currentTimeMillis() + expiresIn));
+        return token;
+    }
+
+    private OAuth2Authentication authentication() {
+        Account account = Account.builder()
+                .id(1)
+                .email(UUID.randomUUID() + "@email.com")
+                .password("token")
+                .roles(Set.of(AccountRole.USER))
+                .build();
+        AccountAdapter principal = new AccountAdapter(account);
+        OAuth2Request request = new OAuth2Request(Map.of(), "myApp", principal.getAuthorities(), true,
+                Set.of("read"), Set.of(), null, Set.of(), Map.of());
+        return new OAuth2Authentication(request,
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdSequenceValidatorTest {
+
+    private EmbeddedDatabase dataSource;
+
+    @Before
+    public void setUp() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(UUID.randomUUID().toString())
+                .build();
+        new JdbcTemplate(dataSource).execute("create sequence event_seq start with 1 increment by 50");
+    }
+
+    @After
+    public void tearDown() {
+        this.dataSource.shutdown();
+    }
+
+    @Test
+    @TestDescription("시퀀스 increment 가 할당 크기와 같으면 통과")
+    public void matchingIncrement() {
+        assertThatCode(() -> new IdSequenceValidator(dataSource, 50, List.of("event_seq")).afterPropertiesSet())
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @TestDescription("시퀀스 increment 가 할당 크기와 다르거나 시퀀스가 없으면 시작 실패")
+    public void mismatchedIncrement() {
+        assertThatThrownBy(() -> new IdSequenceValidator(dataSource, 100, List.of("event_seq")).afterPropertiesSet())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("event_seq");
+        assertThatThrownBy(() -> new IdSequenceValidator(dataSource, 50, List.of("account_seq")).afterPropertiesSet())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.junit.Test;
+import org.springframework.security.jwt.JwtHelper;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JwtKeyRingTest {
+
+    private static final String SECRET = "test-jwt-signing-key-0123456789abcdef";
+
+    @Test
+    @TestDescription("서명 키가 없거나, 짧거나, 기본값이면 생성 실패")
+    public void rejectWeakKeys() {
+        assertThatThrownBy(() -> new JwtKeyRing(Map.of(), "key-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JwtKeyRing(Map.of("key-1", "short-secret"), "key-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JwtKeyRing(Map.of("key-1", "change-me-jwt-signing-key-0123456789"), "key-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JwtKeyRing(Map.of("key-1", SECRET), "key-2"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JwtKeyRing(Map.of("key-1", SECRET, "key-2", "changeit"), "key-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @TestDescription("활성 키로 서명하고 kid 로 검증 키를 찾는다")
+    public void signWithActiveKey() {
+        // Given
+        JwtKeyRing keyRing = new JwtKeyRing(Map.of("key-1", SECRET, "key-2", SECRET.replace("test", "next")), "key-2");
+
+        // When
+        JwtKeyRing.SigningKey activeKey = keyRing.getActiveKey();
+        String token = JwtHelper.encode("{}", activeKey.getSigner(), Map.of("kid", activeKey.getId())).getEncoded();
+
+        // Then
+        assertThat(activeKey.getId()).isEqualTo("key-2");
+        JwtHelper.decodeAndVerify(token, keyRing.getVerifier("key-2"));
+        assertThatThrownBy(() -> JwtHelper.decodeAndVerify(token, keyRing.getVerifier("key-1")))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+}
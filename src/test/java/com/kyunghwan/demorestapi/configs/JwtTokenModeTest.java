@@ -0,0 +1,114 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.kyunghwan.demorestapi.accounts.Account;
+import com.kyunghwan.demorestapi.accounts.AccountRepository;
+import com.kyunghwan.demorestapi.accounts.AccountRole;
+import com.kyunghwan.demorestapi.accounts.AccountService;
+import com.kyunghwan.demorestapi.common.AppProperties;
+import com.kyunghwan.demorestapi.common.BaseControllerTest;
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "my-app.token-mode=jwt",
+        "my-app.jwt-signing-keys.key-1=test-jwt-signing-key-0123456789abcdef"
+})
+public class JwtTokenModeTest extends BaseControllerTest {
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    JwtKeyRing jwtKeyRing;
+
+    @Test
+    @TestDescription("계정을 조회하지 않고 서명된 토큰만으로 인증하는 테스트")
+    public void authenticateWithoutAccountLookup() throws Exception {
+        // Given
+        Account account = createAccount();
+        String accessToken = getAccessToken(account.getEmail(), "jwt");
+        assertThat(JwtHelper.headers(accessToken)).containsEntry("kid", jwtKeyRing.getActiveKeyId());
+
+        // When
+        this.accountRepository.delete(account);
+
+        // Then
+        this.mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.create-event").exists())
+        ;
+    }
+
+    @Test
+    @TestDescription("새 키 추가 + active key 변경 후 재시작해도 기존 토큰을 검증하고, 이전 키 제거 후 재시작하면 거부하는 테스트")
+    public void rotateSigningKeyOnRestart() throws Exception {
+        // Given, 현재 설정(key-1)으로 발급된 토큰
+        Account account = createAccount();
+        String oldToken = getAccessToken(account.getEmail(), "jwt");
+        assertThat(JwtHelper.headers(oldToken)).containsEntry("kid", "key-1");
+
+        // When, key-2 추가 + active key 변경 후 재시작
+        TokenStore rotated = tokenStoreOnRestart(Map.of(
+                "my-app.jwt-signing-keys.key-1", "test-jwt-signing-key-0123456789abcdef",
+                "my-app.jwt-signing-keys.key-2", "next-jwt-signing-key-0123456789abcdef",
+                "my-app.jwt-active-key-id", "key-2"));
+
+        // Then
+        assertThat(rotated.readAccessToken(oldToken).isExpired()).isFalse();
+
+        // When, 기존 토큰 만료 후 key-1 제거하고 재시작
+        TokenStore retired = tokenStoreOnRestart(Map.of(
+                "my-app.jwt-signing-keys.key-2", "next-jwt-signing-key-0123456789abcdef",
+                "my-app.jwt-active-key-id", "key-2"));
+
+        // Then
+        assertThatThrownBy(() -> retired.readAccessToken(oldToken))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    // 재시작할 때처럼 설정을 바인딩해서 서명 키와 토큰 저장소를 새로 생성
+    private TokenStore tokenStoreOnRestart(Map<String, String> properties) {
+        AppProperties restarted = new Binder(new MapConfigurationPropertySource(properties))
+                .bind("my-app", Bindable.ofInstance(new AppProperties()))
+                .get();
+        JwtKeyRing keyRing = new JwtKeyRing(restarted.getJwtSigningKeys(), restarted.getJwtActiveKeyId());
+        assertThat(keyRing.getActiveKeyId()).isEqualTo(restarted.getJwtActiveKeyId());
+        return new JwtTokenStore(new RotatingJwtAccessTokenConverter(keyRing));
+    }
+
+    private Account createAccount() {
+        Account account = Account.builder()
+                .email(UUID.randomUUID() + "@email.com")
+                .password("jwt")
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build();
+        return this.accountService.saveAccount(account);
+    }
+
+}
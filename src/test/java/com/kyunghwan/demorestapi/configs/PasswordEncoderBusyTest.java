@@ -0,0 +1,70 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.kyunghwan.demorestapi.common.AppProperties;
+import com.kyunghwan.demorestapi.common.BaseControllerTest;
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willCallRealMethod;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class PasswordEncoderBusyTest extends BaseControllerTest {
+
+    // 시작 시 계정/클라이언트 비밀번호 인코딩은 실제 인코더 사용
+    @SpyBean
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Test
+    @TestDescription("클라이언트 인증(Basic) 중 비밀번호 인코더가 바쁘면 503 응답")
+    public void clientAuthenticationBusy() throws Exception {
+        // Given
+        willThrow(new PasswordEncoderBusyException("Password encoder queue is full", null))
+                .given(passwordEncoder).matches(any(), any());
+
+        // When & Then
+        this.mockMvc.perform(post("/oauth/token")
+                        .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                        .param("username", appProperties.getUserUsername())
+                        .param("password", appProperties.getUserPassword())
+                        .param("grant_type", "password"))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("error").value("temporarily_unavailable"))
+        ;
+    }
+
+    @Test
+    @TestDescription("사용자 비밀번호(password grant) 검증 중 비밀번호 인코더가 바쁘면 503 응답")
+    public void passwordGrantBusy() throws Exception {
+        // Given, 클라이언트 인증은 통과
+        willCallRealMethod()
+                .willThrow(new PasswordEncoderBusyException("Password encoder queue is full", null))
+                .given(passwordEncoder).matches(any(), any());
+
+        // When & Then
+        this.mockMvc.perform(post("/oauth/token")
+                        .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                        .param("username", appProperties.getUserUsername())
+                        .param("password", appProperties.getUserPassword())
+                        .param("grant_type", "password"))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("error").value("temporarily_unavailable"))
+        ;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kyunghwan.demorestapi.common.EventFixtures;
+import com.kyunghwan.demorestapi.common.TestDescription;
+import com.kyunghwan.demorestapi.events.EventRepository;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 Tomcat 으로 응답 압축과 HAL 응답의 Content-Length 확인
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class ResponseCompressionTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @After
+    public void tearDown() {
+        this.eventRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("최소 크기 이상의 HAL 응답은 gzip 으로 압축하고, 작은 응답은 길이와 함께 그대로 응답")
+    public void compressEventPages() throws Exception {
+        // Given
+        this.eventRepository.saveAll(IntStream.range(0, 50).mapToObj(EventFixtures::event).collect(Collectors.toList()));
+
+        // When & Then
+        HttpURLConnection page = get("/api/events?size=50");
+        assertThat(page.getResponseCode()).isEqualTo(200);
+        assertThat(page.getHeaderField(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(page.getHeaderField(HttpHeaders.VARY)).containsIgnoringCase(HttpHeaders.ACCEPT_ENCODING);
+        JsonNode body;
+        try (InputStream inputStream = new GZIPInputStream(page.getInputStream())) {
+            body = this.objectMapper.readTree(inputStream);
+        }
+        assertThat(body.at("/_embedded/eventList")).hasSize(50);
+
+        HttpURLConnection smallPage = get("/api/events?size=1");
+        assertThat(smallPage.getResponseCode()).isEqualTo(200);
+        assertThat(smallPage.getHeaderField(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(smallPage.getContentLengthLong()).isBetween(1L, 2047L);
+        try (InputStream inputStream = smallPage.getInputStream()) {
+            assertThat(inputStream.readAllBytes()).hasSize((int) smallPage.getContentLengthLong());
+        }
+    }
+
+    private HttpURLConnection get(String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+        connection.setRequestProperty(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE);
+        connection.setRequestProperty(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        return connection;
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.kyunghwan.demorestapi.configs;
+
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SerializationBufferPoolTest {
+
+    @Test
+    @TestDescription("반환한 버퍼는 비워서 재사용하고, 최대 크기보다 커진 버퍼는 버린다")
+    public void reuseBuffers() {
+        // Given
+        SerializationBufferPool pool = new SerializationBufferPool(1, 16, 64);
+        SerializationBufferPool.Buffer buffer = pool.acquire();
+        buffer.write(new byte[32], 0, 32);
+
+        // When
+        pool.release(buffer);
+
+        // Then
+        SerializationBufferPool.Buffer reused = pool.acquire();
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.size()).isZero();
+        assertThat(pool.available()).isZero();
+
+        reused.write(new byte[128], 0, 128);
+        pool.release(reused);
+        assertThat(pool.available()).isZero();
+        assertThat(pool.acquire()).isNotSameAs(reused);
+    }
+
+    @Test
+    @TestDescription("풀이 가득 차면 반환한 버퍼는 버린다")
+    public void boundedPool() {
+        SerializationBufferPool pool = new SerializationBufferPool(1, 16, 64);
+        SerializationBufferPool.Buffer first = pool.acquire();
+        SerializationBufferPool.Buffer second = pool.acquire();
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.available()).isEqualTo(1);
+        assertThat(pool.acquire()).isSameAs(first);
+    }
+
+}
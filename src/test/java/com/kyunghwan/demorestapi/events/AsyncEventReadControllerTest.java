@@ -0,0 +1,104 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.common.BaseControllerTest;
+import com.kyunghwan.demorestapi.common.EventFixtures;
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = "my-app.event-read-mode=async")
+public class AsyncEventReadControllerTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Test
+    @TestDescription("전용 스레드 풀에서 이벤트 목록을 조회하고 async dispatch 로 응답, 변경이 없으면 304 응답")
+    public void queryEvents() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        // When
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events")
+                        .param("page", "1")
+                        .param("size", "10")
+                        .accept(MediaTypes.HAL_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String eTag = this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, Matchers.containsString(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("page.totalElements").value(30))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self.href", Matchers.containsString("/api/events/")))
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 변경이 없으면 async dispatch 에서 304
+        MvcResult notModified = this.mockMvc.perform(get("/api/events")
+                        .param("page", "1")
+                        .param("size", "10")
+                        .accept(MediaTypes.HAL_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(notModified))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""))
+        ;
+    }
+
+    @Test
+    @TestDescription("전용 스레드 풀에서 이벤트를 조회하고, 변경이 없으면 304 응답")
+    public void getEvent() throws Exception {
+        // Given
+        Event event = this.generateEvent(100);
+
+        // When & Then
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String eTag = this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, Matchers.containsString(HttpHeaders.AUTHORIZATION)))
+                .andExpect(jsonPath("name").value("event 100"))
+                .andExpect(jsonPath("_links.self").exists())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult notModified = this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(notModified))
+                .andExpect(status().isNotModified())
+        ;
+
+        MvcResult notFound = this.mockMvc.perform(get("/api/events/{id}", 11883))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(notFound))
+                .andExpect(status().isNotFound())
+        ;
+    }
+
+    private Event generateEvent(int index) {
+        return this.eventRepository.save(EventFixtures.event(index));
+    }
+
+}
@@ -1,26 +1,45 @@
 package com.kyunghwan.demorestapi.events;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.jayway.jsonpath.JsonPath;
 import com.kyunghwan.demorestapi.accounts.Account;
 import com.kyunghwan.demorestapi.accounts.AccountRepository;
 import com.kyunghwan.demorestapi.accounts.AccountRole;
 import com.kyunghwan.demorestapi.accounts.AccountService;
 import com.kyunghwan.demorestapi.common.AppProperties;
 import com.kyunghwan.demorestapi.common.BaseControllerTest;
+import com.kyunghwan.demorestapi.common.EventFixtures;
 import com.kyunghwan.demorestapi.common.TestDescription;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
-import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
-import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
@@ -28,7 +47,6 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
-import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -47,6 +65,24 @@ public class EventControllerTests extends BaseControllerTest {
     @Autowired
     AppProperties appProperties;
 
+    @Autowired
+    EventCountEstimator eventCountEstimator;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @Before
     public void setUp() {
         this.eventRepository.deleteAll();
@@ -208,6 +244,114 @@ public class EventControllerTests extends BaseControllerTest {
         ;
     }
 
+    @Test
+    @TestDescription("여러 이벤트를 한 번에 생성하고, 잘못된 항목은 index 별 에러로 응답하는 테스트")
+    public void createEventsBulk() throws Exception {
+        // Given, 두 번째 항목은 가격이 잘못됨
+        EventDto wrongPrices = bulkEventDto(1);
+        wrongPrices.setBasePrice(10000);
+        List<EventDto> eventDtos = List.of(bulkEventDto(0), wrongPrices, bulkEventDto(2));
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/bulk")
+                    .header(HttpHeaders.AUTHORIZATION, getBearerToken(true))
+                    .contentType(MediaType.APPLICATION_JSON_UTF8)
+                    .accept(MediaTypes.HAL_JSON)
+                    .content(objectMapper.writeValueAsString(eventDtos)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(2))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("bulk 0"))
+                .andExpect(jsonPath("_embedded.eventList[1].name").value("bulk 2"))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.update-event").exists())
+                .andExpect(jsonPath("errors[0].index").value(1))
+                .andExpect(jsonPath("errors[0].errors[0].code").value("WrongPrices"))
+                .andDo(document("create-events-bulk",
+                        links(
+                                linkWithRel("self").description("link to self"),
+                                linkWithRel("query-events").description("link to query events"),
+                                linkWithRel("profile").description("link to profile")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("인증 토큰"),
+                                headerWithName(HttpHeaders.CONTENT_TYPE).description("content type header"),
+                                headerWithName(HttpHeaders.ACCEPT).description("accept header")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("_embedded.eventList[].id").description("생성된 이벤트 식별자"),
+                                fieldWithPath("_embedded.eventList[]._links.self.href").description("생성된 이벤트 링크"),
+                                fieldWithPath("_embedded.eventList[]._links.update-event.href").description("생성된 이벤트 수정 링크"),
+                                fieldWithPath("errors[].index").description("요청 배열에서 잘못된 항목의 index"),
+                                fieldWithPath("errors[].errors[]").description("잘못된 항목의 에러 목록")
+                        )
+                ))
+        ;
+
+        assertThat(this.eventRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @TestDescription("일괄 생성 시 insert 가 batch 로 실행되는 테스트")
+    public void createEventsBulkStatementCount() throws Exception {
+        // Given
+        String bearerToken = getBearerToken(true);
+        List<EventDto> eventDtos = IntStream.range(0, 30).mapToObj(this::bulkEventDto).collect(Collectors.toList());
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        this.mockMvc.perform(post("/api/events/bulk")
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(MediaType.APPLICATION_JSON_UTF8)
+                    .accept(MediaTypes.HAL_JSON)
+                    .content(objectMapper.writeValueAsString(eventDtos)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(30));
+
+        // Then, 시퀀스 조회 + batch insert
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(5);
+    }
+
+    @Test
+    @TestDescription("일괄 생성 시 최대 항목 수를 넘으면 저장하지 않고 400 응답")
+    public void createEventsBulkTooMany() throws Exception {
+        // Given
+        int maxSize = this.appProperties.getEventBulkMaxSize();
+        List<EventDto> eventDtos = IntStream.rangeClosed(0, maxSize).mapToObj(this::bulkEventDto).collect(Collectors.toList());
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/bulk")
+                    .header(HttpHeaders.AUTHORIZATION, getBearerToken(true))
+                    .contentType(MediaType.APPLICATION_JSON_UTF8)
+                    .content(this.objectMapper.writeValueAsString(eventDtos)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("TooManyEvents"))
+        ;
+        assertThat(this.eventRepository.count()).isZero();
+    }
+
+    @Test
+    @TestDescription("일괄 생성 시 모든 항목이 잘못된 경우 400 응답")
+    public void createEventsBulk_Bad_Request() throws Exception {
+        EventDto empty = EventDto.builder().build();
+
+        this.mockMvc.perform(post("/api/events/bulk")
+                    .header(HttpHeaders.AUTHORIZATION, getBearerToken(true))
+                    .contentType(MediaType.APPLICATION_JSON_UTF8)
+                    .content(this.objectMapper.writeValueAsString(List.of(empty))))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("_embedded").doesNotExist())
+                .andExpect(jsonPath("errors[0].index").value(0))
+                .andExpect(jsonPath("errors[0].errors[0].objectName").exists())
+                .andExpect(jsonPath("_links.index").exists())
+        ;
+
+        assertThat(this.eventRepository.count()).isZero();
+    }
+
     @Test
     @TestDescription("이벤트 조회")
     public void queryEventsTest() throws Exception {
@@ -275,7 +419,8 @@ public class EventControllerTests extends BaseControllerTest {
                                 fieldWithPath("page.size").description("페이지 크기"),
                                 fieldWithPath("page.totalElements").description("총 개수"),
                                 fieldWithPath("page.totalPages").description("페이지 개수"),
-                                fieldWithPath("page.number").description("페이지 번호")
+                                fieldWithPath("page.number").description("페이지 번호"),
+                                fieldWithPath("page.exact").description("총 개수의 정확성 유/무")
                         ),
                         links(
                                 linkWithRel("first").description("첫 페이지"),
@@ -357,7 +502,8 @@ public class EventControllerTests extends BaseControllerTest {
                                 fieldWithPath("page.size").description("페이지 크기"),
                                 fieldWithPath("page.totalElements").description("총 개수"),
                                 fieldWithPath("page.totalPages").description("페이지 개수"),
-                                fieldWithPath("page.number").description("페이지 번호")
+                                fieldWithPath("page.number").description("페이지 번호"),
+                                fieldWithPath("page.exact").description("총 개수의 정확성 유/무")
                         ),
                         links(
                                 linkWithRel("first").description("첫 페이지"),
@@ -372,6 +518,547 @@ public class EventControllerTests extends BaseControllerTest {
         ;
     }
 
+    @Test
+    @TestDescription("총 개수 조회 없이 30개의 이벤트를 5개씩 두 번째 페이지 조회하기")
+    public void queryEventsWithoutCount() throws Exception {
+        Account account = this.createAccount();
+
+        // Given, 이벤트 30개 생성
+        IntStream.range(0, 30).forEach(index -> generateEvent(index, account));
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events")
+                        .param("page", "1")
+                        .param("size", "5")
+                        .param("count", "NONE"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(5))
+                .andExpect(jsonPath("page.exact").value(false))
+                .andExpect(jsonPath("page.totalElements").value(11))
+                .andExpect(jsonPath("_links.prev").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.last").doesNotExist())
+        ;
+    }
+
+    @Test
+    @TestDescription("대략적인 총 개수로 30개의 이벤트를 5개씩 두 번째 페이지 조회하기")
+    public void queryEventsWithApproximateCount() throws Exception {
+        Account account = this.createAccount();
+
+        // Given, 이벤트 30개 생성
+        IntStream.range(0, 30).forEach(index -> generateEvent(index, account));
+        this.eventCountEstimator.refresh();
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events")
+                        .param("page", "1")
+                        .param("size", "5")
+                        .param("count", "APPROXIMATE"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(5))
+                .andExpect(jsonPath("page.exact").value(false))
+                .andExpect(jsonPath("page.totalElements").value(30))
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.last").exists())
+        ;
+    }
+
+    @Test
+    @TestDescription("서로 다른 매니저의 이벤트 20개를 조회해도 쿼리 수가 늘지 않는 테스트")
+    public void queryEventsStatementCount() throws Exception {
+        // Given, 매니저가 모두 다른 이벤트 20개 생성
+        IntStream.range(0, 20).forEach(index -> generateEvent(index, accountRepository.save(Account.builder()
+                .email("manager" + index + "@email.com")
+                .password("manager")
+                .roles(Set.of(AccountRole.USER))
+                .build())));
+
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        this.mockMvc.perform(get("/api/events")
+                        .param("size", "20"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(20))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.id").exists())
+        ;
+
+        // Then, 이벤트 조회 + count 쿼리
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @TestDescription("30개의 이벤트를 커서(keyset) 방식으로 5개씩 조회하기")
+    public void queryEventsWithCursor() throws Exception {
+        Account account = this.createAccount();
+
+        // Given, 이벤트 30개 생성
+        IntStream.range(0, 30).forEach(index -> generateEvent(index, account));
+
+        // When & Then, 첫 페이지 조회
+        String firstPage = this.mockMvc.perform(get("/api/events")
+                        .param("after", "")
+                        .param("size", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(5))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").doesNotExist())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        Integer lastId = JsonPath.read(firstPage, "$._embedded.eventList[4].id");
+        String next = JsonPath.read(firstPage, "$._links.next.href");
+
+        // When & Then, 다음 페이지 조회
+        this.mockMvc.perform(RestDocumentationRequestBuilders.get(next))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(5))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(Matchers.greaterThan(lastId)))
+                .andExpect(jsonPath("_links.prev").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andDo(document("query-events-cursor",
+                        requestParameters(
+                                parameterWithName("after").description("이 커서 다음의 이벤트부터 조회 (처음은 빈 값)"),
+                                parameterWithName("size").description("조회 할 이벤트 수")
+                        ),
+                        links(
+                                linkWithRel("self").description("현재 페이지"),
+                                linkWithRel("prev").description("이 전 페이지"),
+                                linkWithRel("next").description("다음 페이지"),
+                                linkWithRel("profile").description("이벤트 목록 조회 프로필")
+                        )
+                ))
+        ;
+    }
+
+    @Test
+    @TestDescription("상태, 무료/오프라인, 요금, 등록 기간, 장소로 필터한 이벤트 조회하기")
+    public void queryEventsWithFilter() throws Exception {
+        // Given, 짝수는 공개된 유료 오프라인 이벤트, 홀수는 초안 무료 온라인 이벤트
+        IntStream.range(0, 30).forEach(index -> {
+            Event event = EventFixtures.event(index);
+            event.setBeginEnrollmentDateTime(LocalDateTime.of(2019, 9, 1, 13, 0).plusDays(index % 10));
+            if (index % 2 == 0) {
+                event.setEventStatus(EventStatus.PUBLISHED);
+                event.setBasePrice(index * 10);
+            } else {
+                event.setBasePrice(0);
+                event.setMaxPrice(0);
+                event.setLocation(null);
+                event.update();
+            }
+            this.eventRepository.save(event);
+        });
+
+        // When & Then, 9/1 ~ 9/5 에 등록을 시작하는 공개 이벤트 중 기본 요금 200 이하
+        this.mockMvc.perform(get("/api/events")
+                        .param("status", "PUBLISHED")
+                        .param("free", "false")
+                        .param("offline", "true")
+                        .param("priceFrom", "0")
+                        .param("priceTo", "200")
+                        .param("enrollmentFrom", "2019-09-01T00:00:00")
+                        .param("enrollmentTo", "2019-09-06T00:00:00")
+                        .param("location", "건학")
+                        .param("size", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                // index 0, 2, 4, 10, 12, 14, 20
+                .andExpect(jsonPath("page.totalElements").value(7))
+                .andExpect(jsonPath("_embedded.eventList[*].eventStatus", Matchers.everyItem(Matchers.is("PUBLISHED"))))
+                .andExpect(jsonPath("_embedded.eventList[*].free", Matchers.everyItem(Matchers.is(false))))
+                .andExpect(jsonPath("_links.next.href", Matchers.containsString("status=PUBLISHED")))
+                .andDo(document("query-events-search",
+                        requestParameters(
+                                parameterWithName("status").description("이벤트 상태"),
+                                parameterWithName("free").description("무료 유/무"),
+                                parameterWithName("offline").description("오프라인 유/무"),
+                                parameterWithName("priceFrom").description("요금 하한 (포함), 요금 범위(기본 요금 ~ 최고 요금)가 겹치는 이벤트"),
+                                parameterWithName("priceTo").description("요금 상한 (포함), 요금 범위(기본 요금 ~ 최고 요금)가 겹치는 이벤트"),
+                                parameterWithName("enrollmentFrom").description("등록 시작 일시 하한 (포함)"),
+                                parameterWithName("enrollmentTo").description("등록 시작 일시 상한 (미포함)"),
+                                parameterWithName("location").description("이벤트 장소 (부분 일치)"),
+                                parameterWithName("size").description("한 페이지 사이즈")
+                        )
+                ))
+        ;
+
+        // 무료 이벤트만 커서 방식으로 조회
+        this.mockMvc.perform(get("/api/events")
+                        .param("free", "true")
+                        .param("after", "")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[*].free", Matchers.everyItem(Matchers.is(true))))
+                .andExpect(jsonPath("_links.next.href", Matchers.containsString("free=true")))
+        ;
+
+        // 필터가 있으면 대략적인 총 개수 대신 다음 페이지 존재 여부만 확인
+        this.mockMvc.perform(get("/api/events")
+                        .param("free", "true")
+                        .param("count", "APPROXIMATE")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.exact").value(false))
+                .andExpect(jsonPath("_links.last").doesNotExist())
+        ;
+    }
+
+    @Test
+    @TestDescription("요금 범위가 조건 범위와 겹치는 이벤트 조회하기")
+    public void queryEventsByPriceRange() throws Exception {
+        // Given, 100 ~ 200, 50 ~ 80, 300 ~ 상한 없음, 무료
+        int[][] prices = {{100, 200}, {50, 80}, {300, 0}, {0, 0}};
+        for (int index = 0; index < prices.length; index++) {
+            Event event = EventFixtures.event(index);
+            event.setBasePrice(prices[index][0]);
+            event.setMaxPrice(prices[index][1]);
+            event.update();
+            this.eventRepository.save(event);
+        }
+
+        // When & Then, 기본 요금은 범위 밖이지만 최고 요금이 범위 안
+        this.mockMvc.perform(get("/api/events")
+                        .param("priceFrom", "150")
+                        .param("priceTo", "250"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("event 0"))
+        ;
+
+        // 상한 없는 이벤트만 높은 하한과 겹치고, 빈 장소는 링크에 넣지 않음
+        this.mockMvc.perform(get("/api/events")
+                        .param("priceFrom", "1000")
+                        .param("location", " "))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("event 2"))
+                .andExpect(jsonPath("_links.self.href", Matchers.containsString("priceFrom=1000")))
+                .andExpect(jsonPath("_links.self.href", Matchers.not(Matchers.containsString("location"))))
+        ;
+    }
+
+    @Test
+    @TestDescription("이름, 설명, 장소에서 검색어로 이벤트를 관련도 순으로 조회하기")
+    public void searchEvents() throws Exception {
+        // Given
+        IntStream.range(0, 20).forEach(this::generateEvent);
+        Event inDescription = EventFixtures.event(100);
+        inDescription.setDescription("Spring REST API 스터디");
+        this.eventRepository.save(inDescription);
+        Event inName = EventFixtures.event(101);
+        inName.setName("Spring REST API");
+        this.eventRepository.save(inName);
+        Event inLocation = EventFixtures.event(102);
+        inLocation.setName("스터디");
+        inLocation.setDescription("REST API");
+        inLocation.setLocation("Spring 카페");
+        this.eventRepository.save(inLocation);
+        Event onlyRest = EventFixtures.event(103);
+        onlyRest.setName("REST API");
+        this.eventRepository.save(onlyRest);
+
+        // When & Then, 모든 검색어가 포함된 이벤트를 이름 > 설명 > 장소 순으로
+        this.mockMvc.perform(get("/api/events")
+                        .param("q", "spring rest")
+                        .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(3))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(inName.getId()))
+                .andExpect(jsonPath("_embedded.eventList[1].id").value(inDescription.getId()))
+                .andExpect(jsonPath("_links.next.href", Matchers.containsString("q=spring")))
+                .andDo(document("query-events-fulltext",
+                        requestParameters(
+                                parameterWithName("q").description("검색어, 모든 단어가 이름, 설명, 장소 중 하나에 포함된 이벤트를 관련도 순으로 조회"),
+                                parameterWithName("size").description("한 페이지 사이즈")
+                        )
+                ))
+        ;
+
+        // 수정한 이벤트는 새 이름으로 검색
+        inName.setName("JPA");
+        this.eventRepository.save(inName);
+        this.mockMvc.perform(get("/api/events")
+                        .param("q", "spring rest"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(2))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(inDescription.getId()))
+                .andExpect(jsonPath("_embedded.eventList[1].id").value(inLocation.getId()))
+        ;
+    }
+
+    @Test
+    @TestDescription("검색어와 필터, 커서 또는 count 를 함께 사용하면 400 응답")
+    public void searchEventsWithFilterOrCursor() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+                        .param("q", "spring")
+                        .param("status", EventStatus.PUBLISHED.name()))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("UnsupportedSearch"))
+                .andExpect(jsonPath("_links.index").exists())
+        ;
+
+        this.mockMvc.perform(get("/api/events")
+                        .param("q", "spring")
+                        .param("after", ""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("UnsupportedSearch"))
+        ;
+
+        this.mockMvc.perform(get("/api/events")
+                        .param("q", "spring")
+                        .param("count", EventCountMode.NONE.name()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("UnsupportedSearch"))
+        ;
+    }
+
+    @Test
+    @TestDescription("롤백된 변경은 검색 인덱스에 반영하지 않고, 벌크 쿼리로 바뀐 이벤트는 다시 색인하면 검색")
+    public void searchEventsAfterRollbackAndRebuild() throws Exception {
+        // Given
+        Event event = this.generateEvent(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+        transactionTemplate.execute(status -> {
+            Event rolledBack = EventFixtures.event(2);
+            rolledBack.setName("Rollback");
+            this.eventRepository.saveAndFlush(rolledBack);
+            status.setRollbackOnly();
+            return null;
+        });
+        this.jdbcTemplate.update("update event set name = ? where id = ?", "Bulk", event.getId());
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events").param("q", "rollback"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(0))
+        ;
+
+        ((InMemoryEventSearchIndex) this.eventSearchIndex).rebuild();
+        this.mockMvc.perform(get("/api/events").param("q", "bulk"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(event.getId()))
+        ;
+    }
+
+    @Test
+    @TestDescription("잘못된 커서, after 와 before 를 함께 보내거나 id 가 아닌 정렬로 커서 조회하면 400 응답")
+    public void queryEventsWithWrongCursor() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+                        .param("after", "!!!"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("InvalidCursor"))
+                .andExpect(jsonPath("content[0].objectName").exists())
+                .andExpect(jsonPath("content[0].defaultMessage").exists())
+                .andExpect(jsonPath("_links.index").exists())
+        ;
+
+        this.mockMvc.perform(get("/api/events")
+                        .param("before", "!!!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("InvalidCursor"))
+                .andExpect(jsonPath("_links.index").exists())
+        ;
+
+        this.mockMvc.perform(get("/api/events")
+                        .param("after", "")
+                        .param("before", ""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].field").value("before"))
+                .andExpect(jsonPath("content[0].code").value("InvalidCursor"))
+        ;
+
+        this.mockMvc.perform(get("/api/events")
+                        .param("after", "")
+                        .param("sort", "name,asc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("UnsupportedSort"))
+        ;
+    }
+
+    @Test
+    @TestDescription("링크 없는 JSON 으로 선택한 필드만 조회하기")
+    public void queryCompactEvents() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When & Then, 엔티티 로딩 없이 선택한 컬럼만 조회
+        this.mockMvc.perform(get("/api/events")
+                        .param("fields", "id,name,beginEventDateTime")
+                        .param("page", "1")
+                        .param("size", "10")
+                        .param("sort", "id,DESC")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_UTF8_VALUE))
+                .andExpect(header().string(HttpHeaders.VARY, Matchers.containsString(HttpHeaders.ACCEPT)))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("content.length()").value(10))
+                .andExpect(jsonPath("content[0].id").exists())
+                .andExpect(jsonPath("content[0].name").exists())
+                .andExpect(jsonPath("content[0].beginEventDateTime").exists())
+                .andExpect(jsonPath("content[0].description").doesNotExist())
+                .andExpect(jsonPath("content[0].manager").doesNotExist())
+                .andExpect(jsonPath("page.totalElements").value(30))
+                .andExpect(jsonPath("_links").doesNotExist())
+                .andDo(document("query-events-compact",
+                        requestParameters(
+                                parameterWithName("fields").description("(optional) 조회할 필드, 쉼표로 구분"),
+                                parameterWithName("page").description("페이지, 0부터 시작"),
+                                parameterWithName("size").description("한 페이지 사이즈"),
+                                parameterWithName("sort").description("정렬")
+                        ),
+                        responseFields(
+                                fieldWithPath("content[].id").description("identifier of new event"),
+                                fieldWithPath("content[].name").description("name of new event"),
+                                fieldWithPath("content[].beginEventDateTime").description("date time of begin of new event"),
+                                fieldWithPath("page.size").description("한 페이지 사이즈"),
+                                fieldWithPath("page.totalElements").description("총 개수"),
+                                fieldWithPath("page.totalPages").description("총 페이지 수"),
+                                fieldWithPath("page.number").description("현재 페이지"),
+                                fieldWithPath("page.exact").description("총 개수가 정확한지 여부")
+                        )
+                ))
+        ;
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @TestDescription("Smile 로 조회하면 HAL 보다 작은 응답")
+    public void queryEventsAsSmile() throws Exception {
+        // Given
+        IntStream.range(0, 20).forEach(this::generateEvent);
+        byte[] hal = this.mockMvc.perform(get("/api/events").param("size", "20"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // When
+        MockHttpServletResponse response = this.mockMvc.perform(get("/api/events")
+                        .param("size", "20")
+                        .accept(EventRepresentation.SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, EventRepresentation.SMILE_VALUE))
+                .andReturn().getResponse();
+
+        // Then
+        JsonNode body = new ObjectMapper(new SmileFactory()).readTree(response.getContentAsByteArray());
+        assertThat(body.get("content")).hasSize(20);
+        assertThat(body.at("/content/0/name").asText()).isEqualTo("event 0");
+        assertThat(body.at("/content/0/_links").isMissingNode()).isTrue();
+        assertThat(body.at("/page/totalElements").asLong()).isEqualTo(20);
+        assertThat(body.has("_links")).isFalse();
+        assertThat(response.getContentAsByteArray().length).isLessThan(hal.length / 2);
+
+        // 표현마다 ETag 가 다르다
+        this.mockMvc.perform(get("/api/events")
+                        .param("size", "20")
+                        .accept(EventRepresentation.SMILE_VALUE)
+                        .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+        ;
+        this.mockMvc.perform(get("/api/events")
+                        .param("size", "20")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isOk())
+        ;
+    }
+
+    @Test
+    @TestDescription("없는 필드, HAL 에서 fields, 링크 없는 표현으로 검색하면 400 응답")
+    public void queryCompactEvents400() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+                        .param("fields", "id,password")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].field").value("fields"))
+                .andExpect(jsonPath("content[0].code").value("UnknownField"))
+        ;
+
+        this.mockMvc.perform(get("/api/events")
+                        .param("fields", "id,name")
+                        .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isBadRequest())
+        ;
+
+        this.mockMvc.perform(get("/api/events")
+                        .param("q", "spring")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+        ;
+    }
+
+    @Test
+    @TestDescription("상태와 기간으로 필터한 이벤트를 NDJSON 으로 내보내기")
+    public void exportEvents() throws Exception {
+        // Given, 짝수 index 는 PUBLISHED, 이벤트 시작 일시는 하루씩 증가
+        IntStream.range(0, 30).forEach(index -> {
+            Event event = EventFixtures.event(index);
+            event.setEventStatus(index % 2 == 0 ? EventStatus.PUBLISHED : EventStatus.DRAFT);
+            event.setBeginEventDateTime(LocalDateTime.of(2019, 10, 1, 13, 0).plusDays(index));
+            this.eventRepository.save(event);
+        });
+
+        // When
+        String content = this.mockMvc.perform(get("/api/events/export")
+                        .param("status", "PUBLISHED")
+                        .param("from", "2019-10-01T00:00:00")
+                        .param("to", "2019-10-11T00:00:00"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, Matchers.startsWith(EventController.NDJSON_VALUE)))
+                .andDo(document("export-events",
+                        requestParameters(
+                                parameterWithName("status").description("이벤트 상태 (optional)"),
+                                parameterWithName("from").description("이벤트 시작 일시 하한, 포함 (optional)"),
+                                parameterWithName("to").description("이벤트 시작 일시 상한, 미포함 (optional)")
+                        )
+                ))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then, 2019-10-01 ~ 10-10 중 PUBLISHED 5개, 한 줄에 이벤트 하나
+        String[] lines = content.split("\n");
+        assertThat(lines).hasSize(5);
+        for (String line : lines) {
+            Event event = this.objectMapper.readValue(line, Event.class);
+            assertThat(event.getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+            assertThat(event.getBeginEventDateTime()).isBefore(LocalDateTime.of(2019, 10, 11, 0, 0));
+        }
+    }
+
+    @Test
+    @TestDescription("조건 없이 모든 이벤트를 내보내기")
+    public void exportAllEvents() throws Exception {
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        String content = this.mockMvc.perform(get("/api/events/export"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(content.split("\n")).hasSize(30);
+    }
+
     @Test
     @TestDescription("기존의 이벤트 하나 조회하기")
     public void getEvent() throws Exception {
@@ -536,6 +1223,38 @@ public class EventControllerTests extends BaseControllerTest {
         ;
     }
 
+    @Test
+    @TestDescription("이벤트 하나를 반복 조회하면 2차 캐시에서 조회하는 테스트")
+    public void getEventFromSecondLevelCache() throws Exception {
+        // Given, 이벤트 하나 생성
+        Account account = this.createAccount();
+        Event event = this.generateEvent(100, account);
+
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        FunctionCounter cacheHits = this.meterRegistry.find("cache.gets")
+                .tag("cache", "event").tag("result", "hit").functionCounter();
+        assertThat(cacheHits).isNotNull();
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(event.getId()))
+        ;
+        long statements = statistics.getPrepareStatementCount();
+        long secondLevelCacheHits = statistics.getSecondLevelCacheHitCount();
+        double meterHits = cacheHits.count();
+
+        // When, 같은 이벤트 다시 조회
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(event.getId()))
+        ;
+
+        // Then, DB 조회 없이 캐시 적중
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(secondLevelCacheHits);
+        assertThat(cacheHits.count()).isGreaterThan(meterHits);
+    }
+
     @Test
     @TestDescription("없는 이벤트를 조회하였을 때 404 응답")
     public void getEvent404() throws Exception {
@@ -546,6 +1265,247 @@ public class EventControllerTests extends BaseControllerTest {
         ;
     }
 
+    @Test
+    @TestDescription("ETag 가 같으면 엔티티를 로딩하지 않고 304 응답")
+    public void getEventNotModified() throws Exception {
+        // Given
+        Event event = this.generateEvent(100);
+        String eTag = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.VARY, Matchers.containsString(HttpHeaders.AUTHORIZATION)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.VARY, Matchers.containsString(HttpHeaders.AUTHORIZATION)))
+                .andExpect(content().string(""))
+        ;
+
+        // version 조회 쿼리 하나, 엔티티 로딩 없음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+    }
+
+    @Test
+    @TestDescription("수정 일시 이후 변경이 없으면 304 응답")
+    public void getEventNotModifiedSince() throws Exception {
+        Event event = this.generateEvent(100);
+        String lastModified = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified())
+        ;
+    }
+
+    @Test
+    @TestDescription("이벤트를 수정하거나 다른 사용자가 조회하면 ETag 가 달라지는 테스트")
+    public void getEventModified() throws Exception {
+        // Given
+        Account account = this.createAccount();
+        Event event = this.generateEvent(100, account);
+        String bearerToken = getBearerToken(false);
+        String eTag = this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 익명 사용자는 링크가 다르므로 다른 ETag
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(eTag)))
+        ;
+
+        // When
+        EventDto eventDto = this.modelMapper.map(event, EventDto.class);
+        eventDto.setName("modified");
+        String updatedETag = this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(MediaType.APPLICATION_JSON_UTF8)
+                        .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        assertThat(updatedETag).isNotEqualTo(eTag);
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, updatedETag))
+                .andExpect(jsonPath("name").value("modified"))
+        ;
+    }
+
+    @Test
+    @TestDescription("목록이 바뀌지 않으면 304, 이벤트가 추가되면 200 응답")
+    public void queryEventsNotModified() throws Exception {
+        // Given
+        IntStream.range(0, 10).forEach(this::generateEvent);
+        String eTag = this.mockMvc.perform(get("/api/events").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events").param("size", "5")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+        ;
+
+        this.generateEvent(10);
+        this.mockMvc.perform(get("/api/events").param("size", "5")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(eTag)))
+        ;
+    }
+
+    @Test
+    @TestDescription("익명 목록 응답을 캐시할 때 인증 사용자 응답도 같이 캐시해서 응답")
+    public void queryEventsFromPageCache() throws Exception {
+        // Given
+        IntStream.range(0, 10).forEach(this::generateEvent);
+        String bearerToken = getBearerToken(true);
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 캐시가 비어 있을 때의 인증 사용자 응답
+        MockHttpServletResponse uncachedAuthenticated = this.mockMvc.perform(get("/api/events").param("size", "5")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        MockHttpServletResponse uncachedAnonymous = this.mockMvc.perform(get("/api/events").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        // When
+        statistics.clear();
+        MockHttpServletResponse cachedAnonymous = this.mockMvc.perform(get("/api/events").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        MockHttpServletResponse cachedAuthenticated = this.mockMvc.perform(get("/api/events").param("size", "5")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        // Then, 이벤트 조회 없이 같은 본문, 같은 ETag
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cachedAnonymous.getContentAsByteArray()).isEqualTo(uncachedAnonymous.getContentAsByteArray());
+        assertThat(cachedAnonymous.getHeader(HttpHeaders.ETAG)).isEqualTo(uncachedAnonymous.getHeader(HttpHeaders.ETAG));
+        assertThat(cachedAnonymous.getContentType()).isEqualTo(uncachedAnonymous.getContentType());
+        assertThat(cachedAuthenticated.getContentAsByteArray()).isEqualTo(uncachedAuthenticated.getContentAsByteArray());
+        assertThat(cachedAuthenticated.getHeader(HttpHeaders.ETAG)).isEqualTo(uncachedAuthenticated.getHeader(HttpHeaders.ETAG));
+
+        this.mockMvc.perform(get("/api/events").param("size", "5")
+                        .header(HttpHeaders.IF_NONE_MATCH, cachedAnonymous.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+        ;
+
+        // 이벤트를 저장하면 캐시를 비운다
+        this.generateEvent(10);
+        this.mockMvc.perform(get("/api/events").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(11))
+        ;
+    }
+
+    @Test
+    @TestDescription("캐시된 페이지는 링크의 기본 URI(요청 호스트)가 같을 때만 사용")
+    public void queryEventsFromPageCachePerHost() throws Exception {
+        // Given
+        IntStream.range(0, 10).forEach(this::generateEvent);
+        this.mockMvc.perform(get("/api/events").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.self.href", Matchers.startsWith("http://localhost:8080/api/events")))
+        ;
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events").param("size", "5")
+                        .with(host("https", "api.example.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.self.href", Matchers.startsWith("https://api.example.com/api/events")))
+                .andExpect(jsonPath("_links.next.href", Matchers.startsWith("https://api.example.com/api/events")))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self.href", Matchers.startsWith("https://api.example.com/api/events/")))
+        ;
+        this.mockMvc.perform(get("/api/events").param("size", "5")
+                        .header(HttpHeaders.AUTHORIZATION, getBearerToken(true))
+                        .with(host("https", "api.example.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.self.href", Matchers.startsWith("https://api.example.com/api/events")))
+                .andExpect(jsonPath("_links.create-event.href").value("https://api.example.com/api/events"))
+        ;
+    }
+
+    private RequestPostProcessor host(String scheme, String serverName) {
+        return request -> {
+            request.setScheme(scheme);
+            request.setServerName(serverName);
+            request.setServerPort(443);
+            return request;
+        };
+    }
+
+    @Test
+    @TestDescription("If-Match 의 ETag 가 현재 버전과 다르면 412 응답")
+    public void updateEventPreconditionFailed() throws Exception {
+        // Given
+        Account account = this.createAccount();
+        Event event = this.generateEvent(200, account);
+        String bearerToken = getBearerToken(false);
+        String eTag = this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        EventDto eventDto = this.modelMapper.map(event, EventDto.class);
+
+        // When, 첫 번째 수정은 성공
+        eventDto.setName("first");
+        String updatedETag = this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON_UTF8)
+                        .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then, 이전 ETag 로 다시 수정하면 실패
+        eventDto.setName("second");
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON_UTF8)
+                        .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, updatedETag))
+        ;
+        assertThat(this.eventRepository.findById(event.getId()).get().getName()).isEqualTo("first");
+    }
+
+    @Test
+    @TestDescription("조회한 뒤 다른 곳에서 수정된 이벤트를 저장하면 낙관적 락 예외")
+    public void updateStaleEvent() {
+        // Given
+        Event event = this.generateEvent(200);
+        Event stale = this.eventRepository.findById(event.getId()).get();
+        Event current = this.eventRepository.findById(event.getId()).get();
+        current.setName("current");
+        this.eventRepository.save(current);
+
+        // When & Then
+        stale.setName("stale");
+        assertThatThrownBy(() -> this.eventRepository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
     @Test
     @TestDescription("이벤트를 정상적으로 수정하는 경우")
     public void updateEvent() throws Exception {
@@ -670,54 +1630,204 @@ public class EventControllerTests extends BaseControllerTest {
         ;
     }
 
+    @Test
+    @TestDescription("JSON Merge Patch 로 이벤트 일부를 수정하는 경우")
+    public void patchEvent() throws Exception {
+        // Given
+        Account account = this.createAccount();
+        Event event = generateEvent(200, account);
+        String patch = "{\"basePrice\": 0, \"maxPrice\": 0, \"location\": null}";
+
+        // When & Then
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                    .header(HttpHeaders.AUTHORIZATION, getBearerToken(false))
+                    .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                    .content(patch))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("name").value(event.getName()))
+                .andExpect(jsonPath("basePrice").value(0))
+                .andExpect(jsonPath("maxPrice").value(0))
+                .andExpect(jsonPath("location").doesNotExist())
+                .andExpect(jsonPath("free").value(true))
+                .andExpect(jsonPath("offline").value(false))
+                .andDo(document("patch-event",
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("인증 토큰"),
+                                headerWithName(HttpHeaders.CONTENT_TYPE).description("application/merge-patch+json")
+                        ),
+                        requestFields(
+                                fieldWithPath("basePrice").description("이벤트 참여 기본 요금"),
+                                fieldWithPath("maxPrice").description("이벤트 참여 최대 요금"),
+                                fieldWithPath("location").description("이벤트 장소, null 이면 삭제")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.CONTENT_TYPE).description("content type header"),
+                                headerWithName(HttpHeaders.ETAG).description("수정된 이벤트의 ETag"),
+                                headerWithName(HttpHeaders.LAST_MODIFIED).description("수정 일시")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("id").description("이벤트 번호"),
+                                fieldWithPath("basePrice").description("이벤트 참여 기본 요금"),
+                                fieldWithPath("maxPrice").description("이벤트 참여 최대 요금"),
+                                fieldWithPath("free").description("무료 유/무"),
+                                fieldWithPath("offline").description("오프라인 유/무")
+                        ),
+                        links(
+                                linkWithRel("self").description("현재 페이지"),
+                                linkWithRel("profile").description("이벤트 부분 수정 프로필"),
+                                linkWithRel("query-events").description("이벤트 목록")
+                        )
+                ))
+        ;
+        Event patched = this.eventRepository.findById(event.getId()).get();
+        assertThat(patched.getDescription()).isEqualTo(event.getDescription());
+        assertThat(patched.getEndEventDateTime()).isEqualTo(event.getEndEventDateTime());
+    }
+
+    @Test
+    @TestDescription("PUT 과 PATCH 로 같은 요금, 장소 변경을 하면 free, offline 도 같은 결과")
+    public void updateAndPatchRecalculateFreeAndOffline() throws Exception {
+        // Given
+        Account account = this.createAccount();
+        Event putEvent = generateEvent(200, account);
+        Event patchEvent = generateEvent(201, account);
+        String bearerToken = getBearerToken(false);
+
+        EventDto eventDto = this.modelMapper.map(putEvent, EventDto.class);
+        eventDto.setBasePrice(0);
+        eventDto.setMaxPrice(0);
+        eventDto.setLocation(null);
+
+        // When
+        mockMvc.perform(put("/api/events/{id}", putEvent.getId())
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(MediaType.APPLICATION_JSON_UTF8)
+                    .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("free").value(true))
+                .andExpect(jsonPath("offline").value(false))
+        ;
+        mockMvc.perform(patch("/api/events/{id}", patchEvent.getId())
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                    .content("{\"basePrice\": 0, \"maxPrice\": 0, \"location\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("free").value(true))
+                .andExpect(jsonPath("offline").value(false))
+        ;
+
+        // Then
+        Event put = this.eventRepository.findById(putEvent.getId()).get();
+        Event patched = this.eventRepository.findById(patchEvent.getId()).get();
+        assertThat(put.isFree()).isTrue().isEqualTo(patched.isFree());
+        assertThat(put.isOffline()).isFalse().isEqualTo(patched.isOffline());
+    }
+
+    @Test
+    @TestDescription("변경한 필드와 관련된 제약만 검증하는 경우")
+    public void patchEventValidatesChangedFields() throws Exception {
+        // Given, 종료 일시가 잘못 저장된 이벤트
+        Account account = this.createAccount();
+        Event event = EventFixtures.event(200);
+        event.setEndEventDateTime(LocalDateTime.of(2019, 9, 18, 13, 0));
+        event.setManager(account);
+        this.eventRepository.save(event);
+        String bearerToken = getBearerToken(false);
+
+        // When & Then, 일시와 관계없는 이름만 수정하면 성공
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                    .content("{\"name\": \"patched\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("patched"))
+        ;
+
+        // 가격을 수정하면 가격 제약을 검증
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                    .content("{\"maxPrice\": 50}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("WrongPrices"))
+        ;
+
+        // 시작 일시를 수정하면 종료 일시 제약도 검증
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                    .content("{\"beginEventDateTime\": \"2019-09-21T14:00:00\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].field").value("endEventDateTime"))
+        ;
+    }
+
+    @Test
+    @TestDescription("필수 값을 지우거나 없는 필드를 수정하려는 경우 부분 수정 실패")
+    public void patchEvent400() throws Exception {
+        // Given
+        Account account = this.createAccount();
+        Event event = generateEvent(200, account);
+        String bearerToken = getBearerToken(false);
+
+        // When & Then
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                    .content("{\"name\": null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].field").value("name"))
+        ;
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                    .content("{\"free\": true}"))
+                .andExpect(status().isBadRequest())
+        ;
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                    .content("[]"))
+                .andExpect(status().isBadRequest())
+        ;
+        assertThat(this.eventRepository.findById(event.getId()).get().getName()).isEqualTo(event.getName());
+    }
+
     private Event generateEvent(int index, Account account) {
-        Event event = buildEvent(index);
+        Event event = EventFixtures.event(index);
         event.setManager(account);
         return this.eventRepository.save(event);
     }
 
     private Event generateEvent(int index) {
-        Event event = buildEvent(index);
+        Event event = EventFixtures.event(index);
         return this.eventRepository.save(event);
     }
 
-    private Event buildEvent(int index) {
-        return Event.builder()
-                    .name("event " + index)
-                    .description("test event")
-                    .beginEnrollmentDateTime(LocalDateTime.of(2019, 9, 19, 13, 0))
-                    .closeEnrollmentDateTime(LocalDateTime.of(2019, 9, 20, 13, 0))
-                    .beginEventDateTime(LocalDateTime.of(2019, 9, 21, 13, 0))
-                    .endEventDateTime(LocalDateTime.of(2019, 9, 22, 13, 0))
-                    .basePrice(100)
-                    .maxPrice(200)
-                    .limitOfEnrollment(100)
-                    .location("경성대학교 건학기념관")
-                    .free(false)
-                    .offline(true)
-                    .eventStatus(EventStatus.DRAFT)
-                    .build();
+    private EventDto bulkEventDto(int index) {
+        return EventDto.builder()
+                .name("bulk " + index)
+                .description("REST-API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2019, 9, 19, 13, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2019, 9, 20, 13, 0))
+                .beginEventDateTime(LocalDateTime.of(2019, 9, 21, 13, 0))
+                .endEventDateTime(LocalDateTime.of(2019, 9, 22, 13, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("경성대학교 건학기념관")
+                .build();
     }
 
     private String getBearerToken(boolean needToCreateAccount) throws Exception {
-        return "Bearer " + getAccessToken(needToCreateAccount);
-    }
-
-    private String getAccessToken(boolean needToCreateAccount) throws Exception {
-        // Given
         if (needToCreateAccount) {
             createAccount();
         }
-
-        ResultActions perform = this.mockMvc.perform(post("/oauth/token")
-                .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
-                .param("username", appProperties.getUserUsername())
-                .param("password", appProperties.getUserPassword())
-                .param("grant_type", "password"));
-
-        String contentAsString = perform.andReturn().getResponse().getContentAsString();
-        Jackson2JsonParser parser = new Jackson2JsonParser();
-        return parser.parseMap(contentAsString).get("access_token").toString();
+        return "Bearer " + getAccessToken(appProperties.getUserUsername(), appProperties.getUserPassword());
     }
 
     private Account createAccount() {
@@ -0,0 +1,67 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+
+public class EventLinksTest {
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @TestDescription("linkTo(EventController.class) 로 만든 링크와 같은 링크를 생성하는 테스트")
+    public void sameAsLinkTo() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        assertSameAsLinkTo(request);
+    }
+
+    @Test
+    @TestDescription("프록시 헤더(X-Forwarded-*)가 있어도 linkTo 와 같은 링크를 생성하는 테스트")
+    public void sameAsLinkToWithForwardedHeaders() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader("X-Forwarded-Proto", "https");
+        request.addHeader("X-Forwarded-Host", "api.example.com");
+        request.addHeader("X-Forwarded-Port", "8443");
+        assertSameAsLinkTo(request);
+    }
+
+    @Test
+    @TestDescription("기본 URI 가 같은 요청끼리는 링크 생성기를 재사용하는 테스트")
+    public void cachedPerBaseUri() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/events")));
+        EventLinks eventLinks = EventLinks.current();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/events/10")));
+        assertThat(EventLinks.current()).isSameAs(eventLinks);
+
+        MockHttpServletRequest otherHost = new MockHttpServletRequest("GET", "/api/events");
+        otherHost.setServerName("api.example.com");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(otherHost));
+        assertThat(EventLinks.current()).isNotSameAs(eventLinks);
+        assertThat(EventLinks.current().getEventsUri()).isEqualTo("http://api.example.com/api/events");
+    }
+
+    private void assertSameAsLinkTo(MockHttpServletRequest request) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        EventLinks eventLinks = EventLinks.current();
+
+        assertThat(eventLinks.self(10)).isEqualTo(linkTo(EventController.class).slash(10).withSelfRel());
+        assertThat(eventLinks.updateEvent(10)).isEqualTo(linkTo(EventController.class).slash(10).withRel("update-event"));
+        assertThat(eventLinks.queryEvents()).isEqualTo(linkTo(EventController.class).withRel("query-events"));
+        assertThat(eventLinks.createEvent()).isEqualTo(linkTo(EventController.class).withRel("create-event"));
+        assertThat(eventLinks.bulkSelf()).isEqualTo(linkTo(EventController.class).slash("bulk").withSelfRel());
+        assertThat(eventLinks.toUri(10)).isEqualTo(linkTo(EventController.class).slash(10).toUri());
+        assertThat(eventLinks.toUriComponentsBuilder().queryParam("q", "스프링 부트").toUriString())
+                .isEqualTo(linkTo(EventController.class).toUriComponentsBuilder().queryParam("q", "스프링 부트").toUriString());
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.common.EventFixtures;
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.junit.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventMapperTest {
+
+    private final EventMapper eventMapper = new EventMapper();
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    @TestDescription("ModelMapper 와 같은 결과로 Event 를 생성하는 테스트")
+    public void toEvent() {
+        EventDto eventDto = eventDto();
+
+        Event event = this.eventMapper.toEvent(eventDto);
+
+        assertThat(event).isEqualToComparingFieldByField(this.modelMapper.map(eventDto, Event.class));
+    }
+
+    @Test
+    @TestDescription("ModelMapper 와 같이 null 을 포함한 모든 필드를 덮어쓰는 테스트")
+    public void update() {
+        EventDto eventDto = eventDto();
+        eventDto.setLocation(null);
+        Event expected = EventFixtures.event(10);
+        Event event = EventFixtures.event(10);
+
+        this.modelMapper.map(eventDto, expected);
+        this.eventMapper.update(eventDto, event);
+
+        assertThat(event).isEqualToComparingFieldByField(expected);
+        assertThat(event.getLocation()).isNull();
+    }
+
+    private EventDto eventDto() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2019, 9, 18, 13, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2019, 9, 19, 13, 0))
+                .beginEventDateTime(LocalDateTime.of(2019, 9, 20, 13, 0))
+                .endEventDateTime(LocalDateTime.of(2019, 9, 21, 13, 0))
+                .location("강남역 D2 스타텁 팩토리")
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+    }
+
+}
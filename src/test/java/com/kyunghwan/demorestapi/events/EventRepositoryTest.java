@@ -0,0 +1,120 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 필터 조건(EventSpecifications)으로 Hibernate 가 생성한 SQL 이 Event 복합 인덱스를 사용하는지 H2 실행 계획으로 확인
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class EventRepositoryTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void setUp() {
+        this.eventRepository.saveAll(IntStream.range(0, 100)
+                .mapToObj(index -> Event.builder()
+                        .name("event " + index)
+                        .beginEnrollmentDateTime(LocalDateTime.of(2019, 9, 1, 13, 0).plusDays(index))
+                        .basePrice(index % 3 == 0 ? 0 : 100)
+                        .free(index % 3 == 0)
+                        .offline(index % 2 == 0)
+                        .eventStatus(EventStatus.values()[index % EventStatus.values().length])
+                        .build())
+                .collect(Collectors.toList()));
+        this.jdbcTemplate.execute("analyze");
+    }
+
+    @After
+    public void tearDown() {
+        this.eventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @TestDescription("상태와 등록 기간 필터는 event_status_begin_enrollment_idx 사용")
+    public void statusAndEnrollmentUseIndex() {
+        EventSearch search = new EventSearch();
+        search.setStatus(EventStatus.PUBLISHED);
+        search.setEnrollmentFrom(LocalDateTime.of(2019, 9, 10, 0, 0));
+        search.setEnrollmentTo(LocalDateTime.of(2019, 9, 20, 0, 0));
+
+        String plan = explain(search, EventStatus.PUBLISHED.name(), search.getEnrollmentFrom(), search.getEnrollmentTo());
+
+        assertThat(plan).containsIgnoringCase("event_status_begin_enrollment_idx");
+    }
+
+    @Test
+    @TestDescription("무료/오프라인과 등록 기간 필터는 event_free_offline_begin_enrollment_idx 사용")
+    public void freeOfflineAndEnrollmentUseIndex() {
+        EventSearch search = new EventSearch();
+        search.setFree(true);
+        search.setOffline(false);
+        search.setEnrollmentFrom(LocalDateTime.of(2019, 9, 10, 0, 0));
+
+        String plan = explain(search, true, false, search.getEnrollmentFrom());
+
+        assertThat(plan).containsIgnoringCase("event_free_offline_begin_enrollment_idx");
+    }
+
+    // EventSpecifications 로 Hibernate 가 만든 SQL 을 그대로 실행 계획 조회, 파라미터는 조건 순서대로 바인딩
+    private String explain(EventSearch search, Object... parameters) {
+        StatementCapture.statements.clear();
+        this.eventRepository.findAll(EventSpecifications.matching(search), Sort.by("id"));
+        String sql = StatementCapture.statements.stream()
+                .filter(statement -> statement.startsWith("select") && statement.contains(" from event "))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        return this.jdbcTemplate.queryForObject("explain " + sql, String.class, parameters);
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        public HibernatePropertiesCustomizer statementCaptureCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCapture());
+        }
+
+    }
+
+    // Hibernate 가 실행하는 SQL 기록
+    static class StatementCapture implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+    }
+
+}
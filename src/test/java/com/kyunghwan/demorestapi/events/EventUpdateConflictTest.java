@@ -0,0 +1,78 @@
+package com.kyunghwan.demorestapi.events;
+
+import com.kyunghwan.demorestapi.accounts.Account;
+import com.kyunghwan.demorestapi.accounts.AccountRepository;
+import com.kyunghwan.demorestapi.common.AppProperties;
+import com.kyunghwan.demorestapi.common.BaseControllerTest;
+import com.kyunghwan.demorestapi.common.EventFixtures;
+import com.kyunghwan.demorestapi.common.TestDescription;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.validation.Errors;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class EventUpdateConflictTest extends BaseControllerTest {
+
+    // 조회와 저장 사이(검증)에 다른 요청이 수정하도록 가로챔
+    @SpyBean
+    EventValidator eventValidator;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Test
+    @TestDescription("If-Match 없이 조회와 저장 사이에 다른 요청이 수정하면 현재 ETag 와 409 응답")
+    public void updateEventConflict() throws Exception {
+        // Given
+        Account account = this.accountRepository.findByEmail(appProperties.getUserUsername()).get();
+        Event event = EventFixtures.event(1);
+        event.setManager(account);
+        this.eventRepository.save(event);
+        EventDto eventDto = this.modelMapper.map(event, EventDto.class);
+        eventDto.setName("stale");
+        String bearerToken = "Bearer " + getAccessToken(appProperties.getUserUsername(), appProperties.getUserPassword());
+
+        willAnswer(invocation -> {
+            // 다른 스레드(요청)가 먼저 수정
+            CompletableFuture.runAsync(() -> {
+                Event current = this.eventRepository.findById(event.getId()).get();
+                current.setName("current");
+                this.eventRepository.save(current);
+            }).get();
+            return invocation.callRealMethod();
+        }).given(this.eventValidator).validate(any(EventDto.class), any(Errors.class));
+
+        // When & Then
+        String eTag = this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(MediaType.APPLICATION_JSON_UTF8)
+                        .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Event current = this.eventRepository.findById(event.getId()).get();
+        assertThat(current.getName()).isEqualTo("current");
+        assertThat(eTag).isEqualTo(EventETag.of(current.getId(), current.getVersion(), EventETag.Variant.MANAGER));
+    }
+
+}